@@ -0,0 +1,20 @@
+package keno.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//shared inputs for the benchmarks
+final class BenchData {
+
+    private BenchData() {
+    }
+
+    //a fixed ticket of the given size spread over the grid (7, 14, 21, ...)
+    static List<Integer> picks(int spots) {
+        List<Integer> picks = new ArrayList<>(spots);
+        for (int i = 1; i <= spots; i++) {
+            picks.add(i * 7);
+        }
+        return picks;
+    }
+}
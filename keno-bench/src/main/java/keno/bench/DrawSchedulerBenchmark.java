@@ -0,0 +1,73 @@
+package keno.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.DrawResult;
+import keno.DrawSampler;
+import keno.DrawScheduler;
+
+//one DrawScheduler tick (draw + fan out + settle) with each subscriber settling its own ticket
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DrawSchedulerBenchmark {
+
+    @Param({"1000", "100000"})
+    public int subscribers;
+
+    private DrawScheduler scheduler;
+
+    //a subscriber holding one 8 spot ticket
+    static final class TicketHolder {
+        final long low;
+        final long high;
+        volatile int matches;
+
+        TicketHolder(long low, long high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        void settle(DrawResult draw) {
+            matches = draw.getMatchCount(low, high);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        scheduler = new DrawScheduler(new DrawSampler(new SplittableRandom(1)));
+        DrawSampler picker = new DrawSampler(new SplittableRandom(2));
+        for (int i = 0; i < subscribers; i++) {
+            picker.sample(8);
+            TicketHolder holder = new TicketHolder(picker.getLow(), picker.getHigh());
+            scheduler.subscribe(holder::settle);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    @Benchmark
+    public DrawResult tick() {
+        return scheduler.tick();
+    }
+}
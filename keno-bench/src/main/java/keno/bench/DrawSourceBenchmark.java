@@ -0,0 +1,67 @@
+package keno.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.CommitRevealDrawSource;
+import keno.DrawSource;
+import keno.Drawing;
+import keno.RandomDrawSource;
+import keno.SeededDrawSource;
+
+//draw throughput for each DrawSource
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DrawSourceBenchmark {
+
+    //enough links that one iteration never runs the chain dry
+    private static final int CHAIN_LENGTH = 1 << 20;
+
+    @Param({"random", "seeded", "commitReveal"})
+    public String mode;
+
+    private Drawing drawing;
+
+    //the chain is rebuilt every iteration, building it is not part of the measurement
+    @Setup(Level.Iteration)
+    public void setup() {
+        DrawSource source;
+        switch (mode) {
+            case "random":
+                source = RandomDrawSource.INSTANCE;
+                break;
+            case "seeded":
+                source = new SeededDrawSource(42);
+                break;
+            case "commitReveal":
+                source = new CommitRevealDrawSource("bench".getBytes(StandardCharsets.UTF_8), CHAIN_LENGTH);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown mode " + mode);
+        }
+        drawing = new Drawing(source);
+    }
+
+    @Benchmark
+    public long generateNumbers() {
+        drawing.generateNumbers(20);
+        return drawing.getWinningLow();
+    }
+}
@@ -0,0 +1,75 @@
+package keno.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.DrawSampler;
+import keno.DrawStats;
+
+//cost of feeding a draw into the live stats, and of reading them while draws keep landing
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class DrawStatsBenchmark {
+
+    //a fixed set of draws to cycle through, so sampling isn't part of the measurement
+    private static final int DRAWS = 4096;
+
+    private DrawStats stats;
+    private long[] lows;
+    private long[] highs;
+    private int next;
+
+    @Setup
+    public void setup() {
+        stats = new DrawStats();
+        lows = new long[DRAWS];
+        highs = new long[DRAWS];
+        DrawSampler sampler = new DrawSampler(new SplittableRandom(1));
+        for (int i = 0; i < DRAWS; i++) {
+            sampler.sample(20);
+            lows[i] = sampler.getLow();
+            highs[i] = sampler.getHigh();
+            stats.record(lows[i], highs[i]);
+        }
+    }
+
+    @Benchmark
+    @Group("record")
+    public void record() {
+        int i = next++ & (DRAWS - 1);
+        stats.record(lows[i], highs[i]);
+    }
+
+    //one thread drawing while three read snapshots, like a busy lobby screen
+    @Benchmark
+    @Group("snapshotWhileDrawing")
+    @GroupThreads(1)
+    public void writer() {
+        int i = next++ & (DRAWS - 1);
+        stats.record(lows[i], highs[i]);
+    }
+
+    @Benchmark
+    @Group("snapshotWhileDrawing")
+    @GroupThreads(3)
+    public DrawStats.Snapshot reader() {
+        return stats.snapshot();
+    }
+}
@@ -0,0 +1,69 @@
+package keno.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.Drawing;
+
+//Drawing.generateNumbers and Drawing.findMatches for each spot game
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DrawingBenchmark {
+
+    @Param({"1", "4", "8", "10"})
+    public int spots;
+
+    private Drawing drawing;
+    private List<Integer> picks;
+    private long picksLow;
+    private long picksHigh;
+
+    @Setup
+    public void setup() {
+        drawing = new Drawing();
+        drawing.generateNumbers(20);
+        picks = BenchData.picks(spots);
+        picksLow = Drawing.lowBits(picks);
+        picksHigh = Drawing.highBits(picks);
+    }
+
+    @Benchmark
+    public long generateNumbers() {
+        drawing.generateNumbers(20);
+        return drawing.getWinningLow();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long generateNumbersContended() {
+        drawing.generateNumbers(20);
+        return drawing.getWinningLow();
+    }
+
+    @Benchmark
+    public List<Integer> findMatches() {
+        return drawing.findMatches(picks);
+    }
+
+    @Benchmark
+    public int findMatchesMask() {
+        return drawing.findMatches(picksLow, picksHigh);
+    }
+}
@@ -0,0 +1,55 @@
+package keno.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.Keno_Game;
+
+//a full Keno_Game.processDrawing (bet, draw, match, settle) for each spot game
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KenoGameBenchmark {
+
+    @Param({"1", "4", "8", "10"})
+    public int spots;
+
+    private Keno_Game game;
+    private List<Integer> picks;
+
+    //a fresh game every iteration so the wallet never runs dry mid-measurement
+    @Setup(Level.Iteration)
+    public void setup() {
+        game = new Keno_Game(Integer.MAX_VALUE / 100);
+        game.startGame(spots, Integer.MAX_VALUE);
+        picks = BenchData.picks(spots);
+    }
+
+    @Benchmark
+    public boolean processDrawing() {
+        return game.processDrawing(picks, 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean processDrawingContended() {
+        return game.processDrawing(picks, 1);
+    }
+}
@@ -0,0 +1,83 @@
+package keno.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.DrawSampler;
+import keno.MatchKernel;
+
+//one draw settled against a column batch, scalar kernel vs the Vector API kernel
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MatchKernelBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int tickets;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private MatchKernel matchKernel;
+    private long drawLow;
+    private long drawHigh;
+    private long[] pickLow;
+    private long[] pickHigh;
+    private int[] spots;
+    private int[] bet;
+    private int[] drawings;
+    private int[] matches;
+    private long[] winnings;
+
+    //every ticket gets the most drawings an int holds, so no run finishes them
+    @Setup
+    public void setup() {
+        matchKernel = kernel.equals("scalar") ? MatchKernel.scalar() : MatchKernel.best();
+        if (kernel.equals("vector") && !matchKernel.getName().startsWith("vector")) {
+            throw new IllegalStateException("vector kernel did not load, got " + matchKernel.getName());
+        }
+
+        pickLow = new long[tickets];
+        pickHigh = new long[tickets];
+        spots = new int[tickets];
+        bet = new int[tickets];
+        drawings = new int[tickets];
+        matches = new int[tickets];
+        winnings = new long[tickets];
+
+        DrawSampler sampler = new DrawSampler(new SplittableRandom(1));
+        int[] spotGames = {1, 4, 8, 10};
+        for (int i = 0; i < tickets; i++) {
+            spots[i] = spotGames[i & 3];
+            sampler.sample(spots[i]);
+            pickLow[i] = sampler.getLow();
+            pickHigh[i] = sampler.getHigh();
+            bet[i] = 1;
+            drawings[i] = Integer.MAX_VALUE;
+        }
+        sampler.sample(20);
+        drawLow = sampler.getLow();
+        drawHigh = sampler.getHigh();
+    }
+
+    @Benchmark
+    public long settle() {
+        return matchKernel.settle(drawLow, drawHigh, pickLow, pickHigh, spots, bet, drawings,
+                matches, winnings, 0, tickets);
+    }
+}
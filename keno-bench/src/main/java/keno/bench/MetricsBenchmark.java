@@ -0,0 +1,72 @@
+package keno.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.KenoMetrics;
+import keno.Keno_Game;
+import keno.LatencyHistogram;
+
+//what the metrics add to a drawing: processDrawing with them on vs off (the gap should stay under ~50ns),
+//plus the raw cost of a histogram record
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    @Param({"true", "false"})
+    public boolean enabled;
+
+    private Keno_Game game;
+    private List<Integer> picks;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long value;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        KenoMetrics.shared().setEnabled(enabled);
+        game = new Keno_Game(Integer.MAX_VALUE / 100);
+        game.startGame(4, Integer.MAX_VALUE);
+        picks = BenchData.picks(4);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        KenoMetrics.shared().setEnabled(true);
+    }
+
+    @Benchmark
+    public boolean processDrawing() {
+        return game.processDrawing(picks, 1);
+    }
+
+    //every thread hits the same shared counters and histograms
+    @Benchmark
+    @Threads(4)
+    public boolean processDrawingContended() {
+        return game.processDrawing(picks, 1);
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        histogram.record(value++ & 0xFFFFF);
+    }
+}
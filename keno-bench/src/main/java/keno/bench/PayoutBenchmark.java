@@ -0,0 +1,52 @@
+package keno.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.Payout;
+
+//Payout.getPayout over every match count of a spot game
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PayoutBenchmark {
+
+    @Param({"1", "4", "8", "10"})
+    public int spots;
+
+    private Payout payout;
+    private int matches;
+
+    @Setup
+    public void setup() {
+        payout = Payout.forSpots(spots);
+    }
+
+    @Benchmark
+    public int getPayout() {
+        matches = (matches == spots) ? 0 : matches + 1;
+        return payout.getPayout(matches);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int getPayoutContended() {
+        matches = (matches == spots) ? 0 : matches + 1;
+        return Payout.forSpots(spots).getPayout(matches);
+    }
+}
@@ -0,0 +1,67 @@
+package keno.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.Player;
+
+//Player.quickPick, plus bets and payouts on one player shared by several threads
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    @State(Scope.Thread)
+    public static class OwnPlayer {
+        @Param({"1", "4", "8", "10"})
+        public int spots;
+
+        Player player;
+
+        @Setup
+        public void setup() {
+            player = new Player(100);
+        }
+    }
+
+    //one player every benchmark thread bets against
+    @State(Scope.Benchmark)
+    public static class SharedPlayer {
+        Player player;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            player = new Player(1_000_000_000);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> quickPick(OwnPlayer state) {
+        state.player.quickPick(state.spots);
+        return state.player.getSelectedNumbers();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean betAndAwardContended(SharedPlayer state) {
+        boolean placed = state.player.placeBet(1);
+        state.player.awardWinnings(1);
+        return placed;
+    }
+}
@@ -0,0 +1,67 @@
+package keno.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import keno.DrawSampler;
+import keno.RoundEngine;
+import keno.TicketStore;
+
+//one draw settled against a store of open tickets, single threaded and through RoundEngine
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:MaxDirectMemorySize=2g")
+@State(Scope.Benchmark)
+public class TicketStoreBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int tickets;
+
+    @Param({"true", "false"})
+    public boolean offHeap;
+
+    private TicketStore store;
+    private RoundEngine engine;
+    private long drawLow;
+    private long drawHigh;
+
+    //tickets get the most drawings a store allows, so no run settles them all
+    @Setup
+    public void setup() {
+        store = new TicketStore(tickets, offHeap);
+        engine = new RoundEngine();
+        DrawSampler sampler = new DrawSampler(new SplittableRandom(1));
+        int[] spotGames = {1, 4, 8, 10};
+        for (int i = 0; i < tickets; i++) {
+            sampler.sample(spotGames[i & 3]);
+            store.append(i, sampler.getLow(), sampler.getHigh(), 1, Short.MAX_VALUE);
+        }
+        sampler.sample(20);
+        drawLow = sampler.getLow();
+        drawHigh = sampler.getHigh();
+    }
+
+    @Benchmark
+    public long settle() {
+        return store.settle(drawLow, drawHigh, null);
+    }
+
+    @Benchmark
+    public long settleParallel() {
+        return engine.settle(drawLow, drawHigh, store, null);
+    }
+}
@@ -0,0 +1,93 @@
+package keno;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+//outcome of an advance play ticket (one ticket over several consecutive draws)
+//kept as plain arrays indexed by draw so a backend can settle a 20 draw ticket without 20 objects
+public final class AdvancePlayResult {
+	private final long firstDrawId;
+	private final int betPerDraw;
+	private final long[] drawLow;
+	private final long[] drawHigh;
+	private final int drawSize;
+	private final int[] drawOrder; //draw i's numbers in the order they came out, drawSize per draw
+	private final int[] matches;
+	private final int[] winnings;
+	private long totalWinnings;
+
+	AdvancePlayResult(long firstDrawId, int draws, int betPerDraw, int drawSize) {
+		this.firstDrawId = firstDrawId;
+		this.betPerDraw = betPerDraw;
+		this.drawLow = new long[draws];
+		this.drawHigh = new long[draws];
+		this.drawSize = drawSize;
+		this.drawOrder = new int[draws * drawSize];
+		this.matches = new int[draws];
+		this.winnings = new int[draws];
+	}
+
+	//fills in draw i from the drawing that was just settled, called once per draw
+	void record(int draw, Drawing drawing, int matchCount, int won) {
+		drawLow[draw] = drawing.getWinningLow();
+		drawHigh[draw] = drawing.getWinningHigh();
+		drawing.copyDrawOrder(drawOrder, draw * drawSize);
+		matches[draw] = matchCount;
+		winnings[draw] = won;
+		totalWinnings += won;
+	}
+
+	//getters
+
+	public int getDraws() {
+		return matches.length;
+	}
+
+	//id of draw i (ids are consecutive)
+	public long getDrawId(int draw) {
+		return firstDrawId + draw;
+	}
+
+	public int getMatches(int draw) {
+		return matches[draw];
+	}
+
+	public int getWinnings(int draw) {
+		return winnings[draw];
+	}
+
+	public long getDrawLow(int draw) {
+		return drawLow[draw];
+	}
+
+	public long getDrawHigh(int draw) {
+		return drawHigh[draw];
+	}
+
+	//the numbers drawn in draw i in the order they came out (builds a list, so not for hot paths)
+	public List<Integer> getDrawnNumbers(int draw) {
+		List<Integer> numbers = new ArrayList<>(drawSize);
+		for (int i = draw * drawSize; i < (draw + 1) * drawSize; i++) {
+			numbers.add(drawOrder[i]);
+		}
+		return numbers;
+	}
+
+	public int getBetPerDraw() {
+		return betPerDraw;
+	}
+
+	public long getStake() {
+		return (long) betPerDraw * matches.length;
+	}
+
+	public long getTotalWinnings() {
+		return totalWinnings;
+	}
+
+	//winnings minus stake
+	public long getNet() {
+		return totalWinnings - getStake();
+	}
+}
@@ -0,0 +1,139 @@
+package keno;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.random.RandomGenerator;
+
+
+//provably fair source using a reverse hash chain:
+//  h0 = sha256(serverSeed), h(k) = sha256(h(k-1)), the last link h(n) is published before play starts
+//  draw i is made from h(n-1-i), which gets revealed afterwards
+//anyone can then check sha256(reveal) == the previous reveal (or the commitment for the first draw)
+//and re-derive the draw from the reveal with rederive, so the house can't pick draws after the fact
+public class CommitRevealDrawSource implements DrawSource {
+    private final byte[][] chain;
+    private final int length;
+    private int next;
+
+    //constructor, builds a chain good for the given number of draws
+    public CommitRevealDrawSource(byte[] serverSeed, int draws) {
+    	if (serverSeed == null || serverSeed.length == 0) {
+    		throw new IllegalArgumentException("server seed cannot be empty");
+    	}
+    	if (draws < 1) {
+    		throw new IllegalArgumentException("chain must cover at least one draw");
+    	}
+    	this.length = draws;
+    	this.chain = new byte[draws + 1][];
+    	MessageDigest sha = sha256();
+    	chain[0] = sha.digest(serverSeed);
+    	for (int i = 1; i <= draws; i++) {
+    		chain[i] = sha.digest(chain[i - 1]);
+    	}
+    }
+
+    @Override
+    public synchronized void draw(DrawSampler sampler, int count) {
+    	if (next >= length) {
+    		throw new IllegalStateException("hash chain is used up after " + length + " draws");
+    	}
+    	byte[] seed = chain[length - 1 - next];
+    	next++;
+    	sampler.reset();
+    	sampler.sample(count, new Generator(seed));
+    }
+
+    //the value to publish before any draw is made
+    public byte[] getCommitment() {
+    	return chain[length].clone();
+    }
+
+    //the seed behind draw i (0 based), only handed out once that draw has been made
+    public synchronized byte[] getRevealedSeed(int draw) {
+    	if (draw < 0 || draw >= next) {
+    		throw new IllegalArgumentException("draw " + draw + " has not been revealed yet");
+    	}
+    	return chain[length - 1 - draw].clone();
+    }
+
+    public synchronized int getDrawCount() {
+    	return next;
+    }
+
+    public int getLength() {
+    	return length;
+    }
+
+    //checks a reveal against the commitment (first draw) or the reveal of the draw before it
+    public static boolean verify(byte[] revealed, byte[] previous) {
+    	return MessageDigest.isEqual(sha256().digest(revealed), previous);
+    }
+
+    //makes the draw again from a revealed seed, the result is in the returned sampler
+    public static DrawSampler rederive(byte[] revealed, int count) {
+    	return rederive(revealed, GameConfig.STANDARD.getPoolSize(), count);
+    }
+
+    //same for another variant, the draw has to come out of a pool the same size as the original
+    public static DrawSampler rederive(byte[] revealed, GameConfig config) {
+    	return rederive(revealed, config.getPoolSize(), config.getDrawSize());
+    }
+
+    private static DrawSampler rederive(byte[] revealed, int poolSize, int count) {
+    	DrawSampler sampler = new DrawSampler(new Generator(revealed), poolSize);
+    	sampler.sample(count);
+    	return sampler;
+    }
+
+    private static MessageDigest sha256() {
+    	try {
+    		return MessageDigest.getInstance("SHA-256");
+    	} catch (NoSuchAlgorithmException e) {
+    		throw new IllegalStateException("SHA-256 is not available", e);
+    	}
+    }
+
+    //counter mode generator: block k is sha256(seed || k), every block gives four longs
+    //nextInt(bound) is spelled out here so verifying never depends on the JDK's default algorithm
+    private static final class Generator implements RandomGenerator {
+    	private final MessageDigest sha = sha256();
+    	private final byte[] seed;
+    	private final ByteBuffer block = ByteBuffer.allocate(32);
+    	private final byte[] counterBytes = new byte[8];
+    	private long counter;
+
+    	Generator(byte[] seed) {
+    		this.seed = seed.clone();
+    		block.position(block.limit());
+    	}
+
+    	@Override
+    	public long nextLong() {
+    		if (!block.hasRemaining()) {
+    			sha.update(seed);
+    			ByteBuffer.wrap(counterBytes).putLong(counter++);
+    			sha.update(counterBytes);
+    			block.clear();
+    			block.put(sha.digest());
+    			block.flip();
+    		}
+    		return block.getLong();
+    	}
+
+    	@Override
+    	public int nextInt(int bound) {
+    		if (bound <= 0) {
+    			throw new IllegalArgumentException("bound must be positive");
+    		}
+    		// 31 bit rejection sampling, the same scheme as java.util.Random
+    		int bits;
+    		int val;
+    		do {
+    			bits = (int) (nextLong() >>> 33);
+    			val = bits % bound;
+    		} while (bits - val + (bound - 1) < 0);
+    		return val;
+    	}
+    }
+}
@@ -0,0 +1,9 @@
+package keno;
+
+
+//anything that settles against the shared draw (a game, a ticket batch, a server session)
+public interface DrawListener {
+
+	//called once per tick with the draw every subscriber shares, should not keep the thread long
+	void onDraw(DrawResult draw);
+}
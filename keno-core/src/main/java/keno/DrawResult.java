@@ -0,0 +1,52 @@
+package keno;
+
+import java.util.List;
+
+
+//one finished draw, immutable so the same instance can be handed to every subscriber
+public final class DrawResult {
+	private final long drawId;
+	private final long low;
+	private final long high;
+	private final long drawnAtNanos; //System.nanoTime() when the draw was made
+	private final long drawnAtMillis; //wall clock time of the draw
+
+	public DrawResult(long drawId, long low, long high, long drawnAtNanos, long drawnAtMillis) {
+		this.drawId = drawId;
+		this.low = low;
+		this.high = high;
+		this.drawnAtNanos = drawnAtNanos;
+		this.drawnAtMillis = drawnAtMillis;
+	}
+
+	public long getDrawId() {
+		return drawId;
+	}
+
+	//same two word mask as Drawing (1-63 low word, 64 and up in the high word)
+	public long getLow() {
+		return low;
+	}
+
+	public long getHigh() {
+		return high;
+	}
+
+	public long getDrawnAtNanos() {
+		return drawnAtNanos;
+	}
+
+	public long getDrawnAtMillis() {
+		return drawnAtMillis;
+	}
+
+	//# of a ticket's picks that were drawn
+	public int getMatchCount(long ticketLow, long ticketHigh) {
+		return Long.bitCount(ticketLow & low) + Long.bitCount(ticketHigh & high);
+	}
+
+	//the drawn numbers, built fresh on each call
+	public List<Integer> getNumbers() {
+		return Drawing.toList(low, high);
+	}
+}
@@ -0,0 +1,127 @@
+package keno;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+
+public class DrawSampler {
+	//one sampler per thread so nobody has to share (or lock) a generator
+	private static final ThreadLocal<DrawSampler> LOCAL =
+			ThreadLocal.withInitial(() -> new DrawSampler(new SplittableRandom()));
+	private static final ThreadLocal<DrawSampler> OTHER = new ThreadLocal<>();
+
+    //the numbers 1-80 (or 1-poolSize), this always stays a permutation so it never needs refilling
+    private final int[] pool;
+    private final RandomGenerator rng;
+
+    //mask of the numbers picked by the last call to sample
+    private long low;
+    private long high;
+
+    //constructor (generator is injectable so draws can be seeded)
+    public DrawSampler(RandomGenerator rng) {
+    	this(rng, 80);
+    }
+
+    //constructor for other pool sizes (e.g. a 70 ball game)
+    public DrawSampler(RandomGenerator rng, int poolSize) {
+    	if (poolSize < 1) {
+    		throw new IllegalArgumentException("pool must have at least 1 number");
+    	}
+    	this.rng = rng;
+    	this.pool = new int[poolSize];
+    	for (int i = 0; i < pool.length; i++) {
+    		pool[i] = i + 1;
+    	}
+    }
+
+    //returns the sampler for the calling thread
+    public static DrawSampler current() {
+    	return LOCAL.get();
+    }
+
+    //same as above for any pool size, the 80 ball sampler is used when it fits
+    //otherwise the thread keeps one extra sampler around for the last other size asked for
+    public static DrawSampler current(int poolSize) {
+    	DrawSampler sampler = LOCAL.get();
+    	if (sampler.pool.length == poolSize) {
+    		return sampler;
+    	}
+    	sampler = OTHER.get();
+    	if (sampler == null || sampler.pool.length != poolSize) {
+    		sampler = new DrawSampler(new SplittableRandom(), poolSize);
+    		OTHER.set(sampler);
+    	}
+    	return sampler;
+    }
+
+    //partial fisher-yates: after this the first count slots of the pool are the picks
+    //always does exactly count swaps, so the cost is the same every draw
+    public void sample(int count) {
+    	sample(count, rng);
+    }
+
+    //same as above but with the generator handed in (used by the draw sources)
+    public void sample(int count, RandomGenerator rng) {
+    	if (count < 1 || count > pool.length) {
+    		throw new IllegalArgumentException("cannot sample " + count + " numbers out of " + pool.length);
+    	}
+
+    	//pools past 127 don't fit the mask, those callers read the picks back with get(i)
+    	if (pool.length > GameConfig.MASK_CAPACITY) {
+    		for (int i = 0; i < count; i++) {
+    			int j = i + rng.nextInt(pool.length - i);
+    			int num = pool[j];
+    			pool[j] = pool[i];
+    			pool[i] = num;
+    		}
+    		this.low = 0L;
+    		this.high = 0L;
+    		return;
+    	}
+
+    	long newLow = 0L;
+    	long newHigh = 0L;
+    	for (int i = 0; i < count; i++) {
+    		int j = i + rng.nextInt(pool.length - i);
+    		int num = pool[j];
+    		pool[j] = pool[i];
+    		pool[i] = num;
+
+    		if (num < 64) {
+    			newLow |= 1L << num;
+    		} else {
+    			newHigh |= 1L << (num - 64);
+    		}
+    	}
+    	this.low = newLow;
+    	this.high = newHigh;
+    }
+
+    //puts the pool back to 1-80 in order, so the next sample only depends on the generator
+    //(draws that have to be re-derived later can't depend on whatever was drawn before)
+    public void reset() {
+    	for (int i = 0; i < pool.length; i++) {
+    		pool[i] = i + 1;
+    	}
+    }
+
+    //returns the i-th number picked by the last sample (in the order it was picked)
+    public int get(int i) {
+    	return pool[i];
+    }
+
+    //getters for the mask of the last sample
+
+    public long getLow() {
+    	return low;
+    }
+
+    public long getHigh() {
+    	return high;
+    }
+
+    public int getPoolSize() {
+    	return pool.length;
+    }
+}
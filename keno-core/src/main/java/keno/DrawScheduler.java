@@ -0,0 +1,192 @@
+package keno;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+
+//the venue's draw: one draw every period, shared by every registered game and ticket batch
+public class DrawScheduler implements AutoCloseable {
+	//subscriber counts above this are fanned out over the common ForkJoin pool
+	private static final long PARALLEL_THRESHOLD = 1024;
+
+	//# of recent tick latencies kept
+	private static final int LATENCY_HISTORY = 1024;
+
+	//used as a set, the map gives us forEachKey with a parallelism threshold
+	private final ConcurrentHashMap<DrawListener, Boolean> listeners = new ConcurrentHashMap<>();
+	private final GameConfig config;
+	private final DrawSampler sampler;
+	private final DrawSource source;
+	private ScheduledExecutorService timer; //made by start, so a scheduler that only ticks by hand has no thread
+	private ScheduledFuture<?> ticking;
+
+	private long drawId = 0;
+	private volatile DrawResult lastDraw;
+	private final LongAdder listenerFailures = new LongAdder();
+	private final LongAdder tickFailures = new LongAdder();
+	private volatile RuntimeException lastTickFailure;
+
+	//draw -> last settlement time for recent ticks (ring buffer), only written by the ticking thread
+	private final long[] latencyNanos = new long[LATENCY_HISTORY];
+	private volatile long ticks = 0;
+	private volatile long maxLatencyNanos = 0;
+
+	//constructor
+	public DrawScheduler() {
+		this(GameConfig.STANDARD, RandomDrawSource.INSTANCE);
+	}
+
+	public DrawScheduler(DrawSampler sampler) {
+		this(GameConfig.STANDARD, RandomDrawSource.INSTANCE, sampler);
+	}
+
+	//draws come from the given source (e.g. a commit-reveal chain for audited rounds)
+	public DrawScheduler(DrawSource source) {
+		this(GameConfig.STANDARD, source);
+	}
+
+	//constructor for another keno variant, every tick draws that variant's pool and draw size
+	public DrawScheduler(GameConfig config, DrawSource source) {
+		this(config, source, new DrawSampler(new SplittableRandom(), config.getPoolSize()));
+	}
+
+	public DrawScheduler(GameConfig config, DrawSource source, DrawSampler sampler) {
+		//draws go out as a DrawResult mask, so the pool has to fit it
+		if (!config.isMasked()) {
+			throw new IllegalArgumentException("a " + config.getPoolSize() + " number pool does not fit the draw mask");
+		}
+		if (sampler.getPoolSize() != config.getPoolSize()) {
+			throw new IllegalArgumentException("sampler draws from " + sampler.getPoolSize()
+					+ " numbers but the game has " + config.getPoolSize());
+		}
+		this.config = config;
+		this.sampler = sampler;
+		this.source = source;
+	}
+
+	//starts drawing every period (the first draw is one period from now)
+	public synchronized void start(long period, TimeUnit unit) {
+		if (ticking != null) {
+			throw new IllegalStateException("Scheduler is already running");
+		}
+		if (timer == null) {
+			timer = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "keno-draw-scheduler");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		ticking = timer.scheduleAtFixedRate(this::scheduledTick, period, period, unit);
+	}
+
+	//a task that throws is never run again by the executor, so a failed draw is recorded
+	//here and the next period tries again instead of the venue silently going quiet
+	private void scheduledTick() {
+		try {
+			tick();
+		} catch (RuntimeException e) {
+			tickFailures.increment();
+			lastTickFailure = e;
+		}
+	}
+
+	public void subscribe(DrawListener listener) {
+		listeners.put(listener, Boolean.TRUE);
+	}
+
+	public void unsubscribe(DrawListener listener) {
+		listeners.remove(listener);
+	}
+
+	//makes one draw and hands it to every subscriber, returns once all of them are done
+	public synchronized DrawResult tick() {
+		source.draw(sampler, config.getDrawSize());
+		DrawResult draw = new DrawResult(++drawId, sampler.getLow(), sampler.getHigh(),
+				System.nanoTime(), System.currentTimeMillis());
+		lastDraw = draw;
+
+		// every listener gets the same instance, big subscriber sets are split across cores
+		listeners.forEachKey(PARALLEL_THRESHOLD, listener -> {
+			try {
+				listener.onDraw(draw);
+			} catch (RuntimeException e) {
+				listenerFailures.increment();
+			}
+		});
+
+		long latency = System.nanoTime() - draw.getDrawnAtNanos();
+		latencyNanos[(int) (ticks % LATENCY_HISTORY)] = latency;
+		if (latency > maxLatencyNanos) {
+			maxLatencyNanos = latency;
+		}
+		ticks++;
+		return draw;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (ticking != null) {
+			ticking.cancel(false);
+			ticking = null;
+		}
+		if (timer != null) {
+			timer.shutdown();
+			timer = null;
+		}
+	}
+
+	//getters
+
+	public GameConfig getConfig() {
+		return config;
+	}
+
+	public DrawResult getLastDraw() {
+		return lastDraw;
+	}
+
+	public int getSubscriberCount() {
+		return listeners.size();
+	}
+
+	public long getTickCount() {
+		return ticks;
+	}
+
+	//time from the last draw to its last settlement
+	public synchronized long getLastLatencyNanos() {
+		return (ticks == 0) ? 0 : latencyNanos[(int) ((ticks - 1) % LATENCY_HISTORY)];
+	}
+
+	public long getMaxLatencyNanos() {
+		return maxLatencyNanos;
+	}
+
+	//latency of a recent tick, 0 is the newest (only the last 1024 are kept)
+	public synchronized long getLatencyNanos(int ticksAgo) {
+		if (ticksAgo < 0 || ticksAgo >= Math.min(ticks, LATENCY_HISTORY)) {
+			throw new IllegalArgumentException("No latency recorded " + ticksAgo + " ticks ago");
+		}
+		return latencyNanos[(int) ((ticks - 1 - ticksAgo) % LATENCY_HISTORY)];
+	}
+
+	//# of times a listener threw instead of settling
+	public long getListenerFailures() {
+		return listenerFailures.sum();
+	}
+
+	//# of scheduled draws that could not be made (e.g. the commit-reveal chain ran out)
+	public long getTickFailures() {
+		return tickFailures.sum();
+	}
+
+	//why the last scheduled draw failed, null if none has
+	public RuntimeException getLastTickFailure() {
+		return lastTickFailure;
+	}
+}
@@ -0,0 +1,10 @@
+package keno;
+
+
+//where the randomness for a draw comes from, Drawing and DrawScheduler hand their sampler to one of these
+//RandomDrawSource is the fast one, SeededDrawSource replays, CommitRevealDrawSource can be audited
+public interface DrawSource {
+
+    //makes the next draw of count numbers, the result is left in the sampler (getLow/getHigh)
+    void draw(DrawSampler sampler, int count);
+}
@@ -0,0 +1,261 @@
+package keno;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+
+//live number stats, updated a draw at a time so nothing is ever recomputed from history
+//  counts over the last 100 draws, the last 1000 draws and all draws
+//  last-seen gap for every number
+//  match histogram per spot game
+//each draw costs a walk over its 20 bits per window plus the 20 bits of the draw falling out of it
+//safe to record from any number of threads (the server shares one across every request thread), draws
+//take the write lock one at a time so concurrent games queue on it for the length of one record
+//readers copy under an optimistic read and only fall back to the read lock (waiting for a draw in progress)
+//if a draw landed while copying, so a snapshot never shows half a draw
+//the match histograms are LongAdders outside the lock, a snapshot's histograms can be a few tickets
+//ahead of or behind its draw counts
+public class DrawStats implements DrawListener {
+	public static final int SHORT_WINDOW = 100;
+	public static final int LONG_WINDOW = 1000;
+
+	//which draws a count covers
+	public enum Window {
+		LAST_100, LAST_1000, ALL
+	}
+
+	private final int poolSize;
+	private final StampedLock lock = new StampedLock();
+
+	//the last LONG_WINDOW draws as masks, slot = draw # % LONG_WINDOW (both windows evict from here)
+	private final long[] ringLow = new long[LONG_WINDOW];
+	private final long[] ringHigh = new long[LONG_WINDOW];
+
+	//indexed by number
+	private final int[] shortCounts;
+	private final int[] longCounts;
+	private final long[] allCounts;
+	private final long[] lastSeen; //draw # (1 based) the number last came up in, 0 = never
+
+	private long draws = 0;
+
+	//matchHistogram[spots][matches], bumped from whichever thread settles the ticket
+	private final LongAdder[][] matchHistogram;
+
+	//constructor (80 ball game)
+	public DrawStats() {
+		this(GameConfig.STANDARD);
+	}
+
+	public DrawStats(GameConfig config) {
+		if (!config.isMasked()) {
+			throw new IllegalArgumentException("Stats need a pool of at most " + GameConfig.MASK_CAPACITY + " numbers");
+		}
+		this.poolSize = config.getPoolSize();
+		this.shortCounts = new int[poolSize + 1];
+		this.longCounts = new int[poolSize + 1];
+		this.allCounts = new long[poolSize + 1];
+		this.lastSeen = new long[poolSize + 1];
+		this.matchHistogram = new LongAdder[config.getMaxSpots() + 1][];
+		for (int spots = 0; spots < matchHistogram.length; spots++) {
+			matchHistogram[spots] = new LongAdder[spots + 1];
+			for (int m = 0; m <= spots; m++) {
+				matchHistogram[spots][m] = new LongAdder();
+			}
+		}
+	}
+
+	@Override
+	public void onDraw(DrawResult draw) {
+		record(draw.getLow(), draw.getHigh());
+	}
+
+	//adds one draw (as a mask) to every window
+	public void record(long low, long high) {
+		long stamp = lock.writeLock();
+		try {
+			int slot = (int) (draws % LONG_WINDOW);
+			if (draws >= LONG_WINDOW) {
+				add(longCounts, ringLow[slot], ringHigh[slot], -1);
+			}
+			if (draws >= SHORT_WINDOW) {
+				int old = (int) ((draws - SHORT_WINDOW) % LONG_WINDOW);
+				add(shortCounts, ringLow[old], ringHigh[old], -1);
+			}
+			ringLow[slot] = low;
+			ringHigh[slot] = high;
+			draws++;
+
+			add(shortCounts, low, high, 1);
+			add(longCounts, low, high, 1);
+			for (long bits = low; bits != 0; bits &= bits - 1) {
+				int n = Long.numberOfTrailingZeros(bits);
+				allCounts[n]++;
+				lastSeen[n] = draws;
+			}
+			for (long bits = high; bits != 0; bits &= bits - 1) {
+				int n = Long.numberOfTrailingZeros(bits) + 64;
+				allCounts[n]++;
+				lastSeen[n] = draws;
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	private static void add(int[] counts, long low, long high, int delta) {
+		for (; low != 0; low &= low - 1) {
+			counts[Long.numberOfTrailingZeros(low)] += delta;
+		}
+		for (; high != 0; high &= high - 1) {
+			counts[Long.numberOfTrailingZeros(high) + 64] += delta;
+		}
+	}
+
+	//counts a settled ticket, safe to call from any thread
+	public void recordMatches(int spots, int matches) {
+		if (spots < 1 || spots >= matchHistogram.length || matches < 0 || matches > spots) {
+			throw new IllegalArgumentException("cannot match " + matches + " on a " + spots + " spot ticket");
+		}
+		matchHistogram[spots][matches].increment();
+	}
+
+	//copies the stats out, retries under the read lock only if a draw landed while copying
+	//the draw counts are consistent with each other, the histograms are summed as they stand
+	public Snapshot snapshot() {
+		long stamp = lock.tryOptimisticRead();
+		Snapshot snapshot = copy();
+		if (!lock.validate(stamp)) {
+			stamp = lock.readLock();
+			try {
+				snapshot = copy();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return snapshot;
+	}
+
+	private Snapshot copy() {
+		long[][] histogram = new long[matchHistogram.length][];
+		for (int spots = 0; spots < histogram.length; spots++) {
+			histogram[spots] = new long[spots + 1];
+			for (int m = 0; m <= spots; m++) {
+				histogram[spots][m] = matchHistogram[spots][m].sum();
+			}
+		}
+		return new Snapshot(draws, shortCounts.clone(), longCounts.clone(), allCounts.clone(), lastSeen.clone(), histogram);
+	}
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	public int getMaxSpots() {
+		return matchHistogram.length - 1;
+	}
+
+	//stats at one point in time (the histograms to within the tickets settling meanwhile), never changes once taken
+	public static final class Snapshot {
+		private final long draws;
+		private final int[] shortCounts;
+		private final int[] longCounts;
+		private final long[] allCounts;
+		private final long[] lastSeen;
+		private final long[][] matchHistogram;
+
+		private Snapshot(long draws, int[] shortCounts, int[] longCounts, long[] allCounts, long[] lastSeen,
+				long[][] matchHistogram) {
+			this.draws = draws;
+			this.shortCounts = shortCounts;
+			this.longCounts = longCounts;
+			this.allCounts = allCounts;
+			this.lastSeen = lastSeen;
+			this.matchHistogram = matchHistogram;
+		}
+
+		public long getDraws() {
+			return draws;
+		}
+
+		//# of draws in the window (less than the window size until that many have been made)
+		public long getDraws(Window window) {
+			switch (window) {
+				case LAST_100:
+					return Math.min(draws, SHORT_WINDOW);
+				case LAST_1000:
+					return Math.min(draws, LONG_WINDOW);
+				default:
+					return draws;
+			}
+		}
+
+		//times a number came up in the window
+		public long getCount(int number, Window window) {
+			checkNumber(number);
+			switch (window) {
+				case LAST_100:
+					return shortCounts[number];
+				case LAST_1000:
+					return longCounts[number];
+				default:
+					return allCounts[number];
+			}
+		}
+
+		//draws since the number last came up (0 = it was in the latest draw, -1 = never drawn)
+		public long getGap(int number) {
+			checkNumber(number);
+			return lastSeen[number] == 0 ? -1 : draws - lastSeen[number];
+		}
+
+		//the count most often drawn numbers in the window, ties go to the lower number
+		public int[] getHot(int count, Window window) {
+			return rank(count, window, true);
+		}
+
+		//the count least often drawn numbers in the window, ties go to the lower number
+		public int[] getCold(int count, Window window) {
+			return rank(count, window, false);
+		}
+
+		//matchHistogram(spots)[m] = # of settled tickets with that many spots that hit m
+		public long[] getMatchHistogram(int spots) {
+			if (spots < 1 || spots >= matchHistogram.length) {
+				throw new IllegalArgumentException("no histogram for " + spots + " spots");
+			}
+			return matchHistogram[spots].clone();
+		}
+
+		//selection by repeated scans, the pool is tiny so this beats sorting boxed numbers
+		private int[] rank(int count, Window window, boolean hot) {
+			int pool = allCounts.length - 1;
+			count = Math.max(0, Math.min(count, pool));
+			int[] ranked = new int[count];
+			boolean[] taken = new boolean[pool + 1];
+			for (int r = 0; r < count; r++) {
+				int best = -1;
+				long bestCount = 0;
+				for (int n = 1; n <= pool; n++) {
+					if (taken[n]) {
+						continue;
+					}
+					long c = getCount(n, window);
+					if (best == -1 || (hot ? c > bestCount : c < bestCount)) {
+						best = n;
+						bestCount = c;
+					}
+				}
+				taken[best] = true;
+				ranked[r] = best;
+			}
+			return ranked;
+		}
+
+		private void checkNumber(int number) {
+			if (number < 1 || number >= allCounts.length) {
+				throw new IllegalArgumentException("number must be between 1 and " + (allCounts.length - 1));
+			}
+		}
+	}
+}
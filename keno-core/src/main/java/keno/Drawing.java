@@ -0,0 +1,268 @@
+package keno;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+
+public class Drawing {
+    //the draw is kept as a 128 bit mask, bit n is set when number n was drawn
+    //numbers 1-63 live in the low word and 64-127 live in the high word
+    private long winningLow;
+    private long winningHigh;
+
+    //the same numbers in the order they came out, the mask can't remember that
+    //(draws set from a mask with useDraw have no order, those are kept ascending)
+    private final int[] drawOrder;
+
+    //mask of the player numbers that matched on the last findMatches call
+    private long matchedLow;
+    private long matchedHigh;
+
+    //slow path for pools too big for the mask (see GameConfig.isMasked), null otherwise
+    private final BitSet winningSet;
+    private final BitSet matchedSet;
+
+    //sampler used for the draws, null means use the calling thread's shared one
+    private final DrawSampler sampler;
+
+    //where the randomness for each draw comes from
+    private final DrawSource source;
+
+    //pool size, draw size etc. for the variant being played
+    private final GameConfig config;
+
+    //constructor
+    public Drawing() {
+        this(GameConfig.STANDARD, RandomDrawSource.INSTANCE, null);
+    }
+
+    //constructor with its own generator (e.g. a seeded one for replaying draws)
+    public Drawing(RandomGenerator rng) {
+        this(GameConfig.STANDARD, RandomDrawSource.INSTANCE, new DrawSampler(rng));
+    }
+
+    //constructor with a pluggable source (seeded replay, commit-reveal, ...)
+    public Drawing(DrawSource source) {
+        this(GameConfig.STANDARD, source, null);
+    }
+
+    //constructor for another keno variant
+    public Drawing(GameConfig config) {
+        this(config, RandomDrawSource.INSTANCE, null);
+    }
+
+    public Drawing(GameConfig config, DrawSource source) {
+        this(config, source, null);
+    }
+
+    private Drawing(GameConfig config, DrawSource source, DrawSampler sampler) {
+        if (config == null) {
+            throw new IllegalArgumentException("game config cannot be null");
+        }
+        if (source == null) {
+            throw new IllegalArgumentException("draw source cannot be null");
+        }
+        this.config = config;
+        this.source = source;
+        this.sampler = sampler;
+        this.winningSet = config.isMasked() ? null : new BitSet(config.getPoolSize() + 1);
+        this.matchedSet = config.isMasked() ? null : new BitSet(config.getPoolSize() + 1);
+        this.drawOrder = new int[config.getDrawSize()];
+        this.winningLow = 0L;
+        this.winningHigh = 0L;
+        this.matchedLow = 0L;
+        this.matchedHigh = 0L;
+    }
+
+    public DrawSource getSource() {
+    	return source;
+    }
+
+    public GameConfig getConfig() {
+    	return config;
+    }
+
+    //returns new array of the winning numbers list, in the order they were drawn
+    //(empty until the first draw)
+    public List<Integer> getWinningNumbers() {
+    	if (drawOrder[0] == 0) {
+    		return new ArrayList<>();
+    	}
+    	List<Integer> numbers = new ArrayList<>(drawOrder.length);
+    	for (int num : drawOrder) {
+    		numbers.add(num);
+    	}
+    	return numbers;
+    }
+
+    //copies the draw order into dest from offset (no list, for callers keeping many draws)
+    void copyDrawOrder(int[] dest, int offset) {
+    	System.arraycopy(drawOrder, 0, dest, offset, drawOrder.length);
+    }
+
+    //returns new array of the matched numbers list (built from the mask)
+    public List<Integer> getMatchedNumbers() {
+    	if (matchedSet != null) {
+    		return toList(matchedSet);
+    	}
+    	return toList(matchedLow, matchedHigh);
+    }
+
+    //raw mask getters so callers can count matches without any lists
+    public long getWinningLow() {
+    	return winningLow;
+    }
+
+    public long getWinningHigh() {
+    	return winningHigh;
+    }
+
+    public long getMatchedLow() {
+    	return matchedLow;
+    }
+
+    public long getMatchedHigh() {
+    	return matchedHigh;
+    }
+
+    //returns the matching numbers as an int (count)
+    public int getMatchCount(List<Integer> playerNumbers) {
+    	if (winningSet != null) {
+    		int count = 0;
+    		for (int num : playerNumbers) {
+    			if (num >= 1 && winningSet.get(num)) {
+    				count++;
+    			}
+    		}
+    		return count;
+    	}
+        return getMatchCount(lowBits(playerNumbers), highBits(playerNumbers));
+    }
+
+    //returns the matching numbers for a player mask, this is just two popcounts
+    public int getMatchCount(long playerLow, long playerHigh) {
+    	requireMask();
+    	return Long.bitCount(playerLow & winningLow) + Long.bitCount(playerHigh & winningHigh);
+    }
+
+    //function generates the numbers that are winners in the round
+    public void generateNumbers(int count) {
+    	if(count != config.getDrawSize()) {
+    		throw new IllegalArgumentException("cannot generate anything except " + config.getDrawSize() + " winning numbers");
+    	}
+
+        DrawSampler draw = (sampler != null) ? sampler : DrawSampler.current(config.getPoolSize());
+        source.draw(draw, count);
+
+        for (int i = 0; i < count; i++) {
+        	drawOrder[i] = draw.get(i);
+        }
+        if (winningSet != null) {
+        	winningSet.clear();
+        	matchedSet.clear();
+        	for (int num : drawOrder) {
+        		winningSet.set(num);
+        	}
+        }
+        this.winningLow = draw.getLow();
+        this.winningHigh = draw.getHigh();
+        this.matchedLow = 0L;
+        this.matchedHigh = 0L;
+    }
+
+    //sets the draw from a mask that was made somewhere else (e.g. replayed from the journal)
+    public void useDraw(long low, long high) {
+    	requireMask();
+    	if (Long.bitCount(low) + Long.bitCount(high) != config.getDrawSize()
+    			|| (low & ~config.getPoolLow()) != 0 || (high & ~config.getPoolHigh()) != 0) {
+    		throw new IllegalArgumentException("draw must be " + config.getDrawSize()
+    				+ " numbers between 1 and " + config.getPoolSize());
+    	}
+    	this.winningLow = low;
+    	this.winningHigh = high;
+    	this.matchedLow = 0L;
+    	this.matchedHigh = 0L;
+    	int i = 0;
+    	for (int num : toList(low, high)) {
+    		drawOrder[i++] = num;
+    	}
+    }
+
+    //function that finds matches from players and winnings numbers
+    public List<Integer> findMatches(List<Integer> playerNumbers) {
+    	if (winningSet != null) {
+    		matchedSet.clear();
+    		for (int num : playerNumbers) {
+    			if (num >= 1 && winningSet.get(num)) {
+    				matchedSet.set(num);
+    			}
+    		}
+    		return getMatchedNumbers();
+    	}
+        findMatches(lowBits(playerNumbers), highBits(playerNumbers));
+        return getMatchedNumbers();
+    }
+
+    //mask version of findMatches, stores the matched mask and returns the count
+    public int findMatches(long playerLow, long playerHigh) {
+    	requireMask();
+    	this.matchedLow = playerLow & winningLow;
+    	this.matchedHigh = playerHigh & winningHigh;
+    	return Long.bitCount(matchedLow) + Long.bitCount(matchedHigh);
+    }
+
+    //the mask methods only work when the pool fits in 128 bits, bigger pools go through the lists
+    private void requireMask() {
+    	if (winningSet != null) {
+    		throw new IllegalStateException("a " + config.getPoolSize() + " number pool does not fit the draw mask");
+    	}
+    }
+
+    //low word of the mask for a list of numbers (numbers outside 1-127 are ignored)
+    public static long lowBits(List<Integer> numbers) {
+    	long low = 0L;
+    	for (int num : numbers) {
+    		if (num >= 1 && num < 64) {
+    			low |= 1L << num;
+    		}
+    	}
+    	return low;
+    }
+
+    //high word of the mask for a list of numbers (numbers outside 1-127 are ignored)
+    public static long highBits(List<Integer> numbers) {
+    	long high = 0L;
+    	for (int num : numbers) {
+    		if (num >= 64 && num <= GameConfig.MASK_CAPACITY) {
+    			high |= 1L << (num - 64);
+    		}
+    	}
+    	return high;
+    }
+
+    //turns a mask back into a sorted list of numbers
+    public static List<Integer> toList(long low, long high) {
+    	List<Integer> numbers = new ArrayList<>(Long.bitCount(low) + Long.bitCount(high));
+    	while (low != 0) {
+    		numbers.add(Long.numberOfTrailingZeros(low));
+    		low &= low - 1;
+    	}
+    	while (high != 0) {
+    		numbers.add(Long.numberOfTrailingZeros(high) + 64);
+    		high &= high - 1;
+    	}
+    	return numbers;
+    }
+
+    //sorted list of the numbers in a set (slow path)
+    private static List<Integer> toList(BitSet set) {
+    	List<Integer> numbers = new ArrayList<>(set.cardinality());
+    	for (int num = set.nextSetBit(0); num >= 0; num = set.nextSetBit(num + 1)) {
+    		numbers.add(num);
+    	}
+    	return numbers;
+    }
+
+}
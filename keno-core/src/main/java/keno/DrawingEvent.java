@@ -0,0 +1,44 @@
+package keno;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+//JFR event for one settled drawing, shows up in a recording as keno.Drawing
+//(costs nothing unless a recording has the event enabled)
+//the event's duration covers the whole drawing, the phase times are only filled in on drawings
+//the metrics sampled (0 otherwise)
+@Name("keno.Drawing")
+@Label("Keno Drawing")
+@Category("Keno")
+@Description("One drawing settled for a ticket")
+@StackTrace(false)
+class DrawingEvent extends Event {
+	@Label("Draw Id")
+	long drawId;
+
+	@Label("Spots")
+	int spots;
+
+	@Label("Matches")
+	int matches;
+
+	@Label("Bet")
+	int bet;
+
+	@Label("Winnings")
+	int winnings;
+
+	@Label("Draw Nanos")
+	long drawNanos;
+
+	@Label("Settle Nanos")
+	long settleNanos;
+
+	@Label("Persist Nanos")
+	long persistNanos;
+}
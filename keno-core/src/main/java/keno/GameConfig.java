@@ -0,0 +1,187 @@
+package keno;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+
+//rules for one keno variant: how many balls, how many get drawn, how many spots and what they pay
+//immutable so one instance can be shared by every game of that variant
+public final class GameConfig {
+	//biggest number that fits the two-long draw mask (bit 0 is never used)
+	public static final int MASK_CAPACITY = 127;
+
+	//the classic game: 20 drawn out of 80, up to 10 spots, 1/4/8/10 spot paytables
+	public static final GameConfig STANDARD = new GameConfig(80, 20, 10, Arrays.asList(
+			Payout.forSpots(1), Payout.forSpots(4), Payout.forSpots(8), Payout.forSpots(10)));
+
+	private final int poolSize;
+	private final int drawSize;
+	private final int maxSpots;
+	private final Payout[] paytables; //index = # of spots, null when that game isn't offered
+
+	//every number in the pool as a mask (only used when the pool fits the mask)
+	private final long poolLow;
+	private final long poolHigh;
+
+	//constructor
+	public GameConfig(int poolSize, int drawSize, int maxSpots, List<Payout> paytables) {
+		if (poolSize < 2) {
+			throw new IllegalArgumentException("Pool must have at least 2 numbers");
+		}
+		if (drawSize < 1 || drawSize >= poolSize) {
+			throw new IllegalArgumentException("Draw size must be between 1 and " + (poolSize - 1));
+		}
+		if (maxSpots < 1 || maxSpots > drawSize) {
+			throw new IllegalArgumentException("Max spots must be between 1 and " + drawSize);
+		}
+		if (paytables == null || paytables.isEmpty()) {
+			throw new IllegalArgumentException("Game needs at least one paytable");
+		}
+
+		this.poolSize = poolSize;
+		this.drawSize = drawSize;
+		this.maxSpots = maxSpots;
+		this.paytables = new Payout[maxSpots + 1];
+		for (Payout payout : paytables) {
+			int spots = payout.getSpots();
+			if (spots > maxSpots) {
+				throw new IllegalArgumentException("Paytable for " + spots + " spots is over the max of " + maxSpots);
+			}
+			if (this.paytables[spots] != null) {
+				throw new IllegalArgumentException("More than one paytable for " + spots + " spots");
+			}
+			this.paytables[spots] = payout;
+		}
+
+		long low = 0L;
+		long high = 0L;
+		for (int n = 1; n <= Math.min(poolSize, MASK_CAPACITY); n++) {
+			if (n < 64) {
+				low |= 1L << n;
+			} else {
+				high |= 1L << (n - 64);
+			}
+		}
+		this.poolLow = low;
+		this.poolHigh = high;
+	}
+
+	//reads a variant from a properties file, e.g.
+	//  pool=70
+	//  draw=20
+	//  maxSpots=10
+	//  payout.4=2:1,3:5,4:75     (matches:prize pairs)
+	public static GameConfig load(Path file) throws IOException {
+		Properties props = new Properties();
+		try (Reader reader = Files.newBufferedReader(file)) {
+			props.load(reader);
+		}
+		return fromProperties(props);
+	}
+
+	//same as load, for properties that came from somewhere else
+	public static GameConfig fromProperties(Properties props) {
+		int pool = intProperty(props, "pool");
+		int draw = intProperty(props, "draw");
+		int maxSpots = intProperty(props, "maxSpots");
+
+		Payout[] tables = new Payout[0];
+		for (String key : props.stringPropertyNames()) {
+			if (!key.startsWith("payout.")) {
+				continue;
+			}
+			int spots = parse(key.substring("payout.".length()), key);
+			String[] pairs = props.getProperty(key).split(",");
+			int[] matches = new int[pairs.length];
+			int[] prizes = new int[pairs.length];
+			for (int i = 0; i < pairs.length; i++) {
+				String[] pair = pairs[i].split(":");
+				if (pair.length != 2) {
+					throw new IllegalArgumentException("Paytable entry must be matches:prize in " + key + ": " + pairs[i]);
+				}
+				matches[i] = parse(pair[0], key);
+				prizes[i] = parse(pair[1], key);
+			}
+			tables = Arrays.copyOf(tables, tables.length + 1);
+			tables[tables.length - 1] = new Payout(spots, matches, prizes);
+		}
+		return new GameConfig(pool, draw, maxSpots, Arrays.asList(tables));
+	}
+
+	private static int intProperty(Properties props, String key) {
+		String value = props.getProperty(key);
+		if (value == null) {
+			throw new IllegalArgumentException("Game config is missing " + key);
+		}
+		return parse(value, key);
+	}
+
+	private static int parse(String value, String key) {
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Not a number in " + key + ": " + value, e);
+		}
+	}
+
+	//true when the pool fits the 128 bit mask, so draws and matches can use the popcount fast path
+	public boolean isMasked() {
+		return poolSize <= MASK_CAPACITY;
+	}
+
+	//returns the paytable for a spot game, throws when this variant doesn't offer it
+	public Payout getPayout(int spots) {
+		if (!hasPayout(spots)) {
+			throw new IllegalArgumentException("Game has no paytable for " + spots + " spots");
+		}
+		return paytables[spots];
+	}
+
+	public boolean hasPayout(int spots) {
+		return spots >= 1 && spots <= maxSpots && paytables[spots] != null;
+	}
+
+	//the spot games this variant offers, smallest first
+	public int[] getSpotGames() {
+		int count = 0;
+		for (Payout payout : paytables) {
+			if (payout != null) {
+				count++;
+			}
+		}
+		int[] games = new int[count];
+		for (int spots = 1, i = 0; spots <= maxSpots; spots++) {
+			if (paytables[spots] != null) {
+				games[i++] = spots;
+			}
+		}
+		return games;
+	}
+
+	//getters
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	public int getDrawSize() {
+		return drawSize;
+	}
+
+	public int getMaxSpots() {
+		return maxSpots;
+	}
+
+	public long getPoolLow() {
+		return poolLow;
+	}
+
+	public long getPoolHigh() {
+		return poolHigh;
+	}
+}
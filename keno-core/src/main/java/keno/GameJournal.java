@@ -0,0 +1,196 @@
+package keno;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+//append-only binary journal of every drawing (draw, ticket, bet, matches, payout, balance after)
+//plus where the drawing sat on its card, so an unfinished card can be rebuilt after a restart
+//records are fixed width and written straight into a memory mapped file, fsync is done in batches
+public class GameJournal implements Closeable {
+	//file layout: one 64 byte header, then 64 byte records
+	//header:  magic (int), version (int), committed record count (long)
+	//record:  draw id, draw low, draw high, ticket low, ticket high (longs), bet (int),
+	//         matches, drawing # on the card (shorts), payout (int), drawings on the card,
+	//         drawings left that were already staked (shorts), balance after in cents (long)
+	//version 1 files (matches as an int, no card fields) are still read and appended to, their card fields read as 0
+	public static final int RECORD_SIZE = 64;
+	private static final int HEADER_SIZE = 64;
+	private static final int MAGIC = 0x4B454E4F; // "KENO"
+	private static final int VERSION = 2;
+
+	//biggest value the card fields can hold, longer cards can't be journaled
+	public static final int MAX_CARD_DRAWINGS = Short.MAX_VALUE;
+
+	//the file is mapped in regions of this many records
+	private static final int RECORDS_PER_REGION = 1 << 16;
+	private static final long REGION_SIZE = (long) RECORDS_PER_REGION * RECORD_SIZE;
+
+	private final FileChannel channel;
+	private final MappedByteBuffer header;
+	private final int syncEvery;
+	private final int version; //layout of the records in this file
+
+	private MappedByteBuffer region; //region currently being written
+	private long regionIndex = -1;
+	private long size; //records written
+	private long committed; //records covered by the last fsync
+	private int regionDirtyFrom; //first byte in the region not synced yet
+
+	//opens (or creates) a journal, syncing to disk every syncEvery records (0 = only on commit/close)
+	public GameJournal(Path file, int syncEvery) throws IOException {
+		if (syncEvery < 0) {
+			throw new IllegalArgumentException("syncEvery cannot be negative");
+		}
+		this.syncEvery = syncEvery;
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+
+		if (header.getInt(0) == 0) {
+			header.putInt(0, MAGIC);
+			header.putInt(4, VERSION);
+			header.putLong(8, 0);
+			header.force();
+		} else if (header.getInt(0) != MAGIC || header.getInt(4) < 1 || header.getInt(4) > VERSION) {
+			channel.close();
+			throw new IOException("Not a keno journal: " + file);
+		}
+		this.version = header.getInt(4);
+
+		//anything past the committed count is a torn write from a crash and gets overwritten
+		this.size = header.getLong(8);
+		this.committed = size;
+		mapRegionFor(size);
+		this.regionDirtyFrom = offsetInRegion(size);
+	}
+
+	//opens a journal that syncs every 64 records
+	public GameJournal(Path file) throws IOException {
+		this(file, 64);
+	}
+
+	//appends one drawing, returns its index in the journal
+	//cardDrawing is its 1 based # on a card of cardDrawings, prepaid is how many of the drawings after it
+	//were already staked (advance play), all three 0 when there is no card to rebuild
+	public synchronized long append(long drawId, long drawLow, long drawHigh, long ticketLow, long ticketHigh,
+			int bet, int matches, int payout, long balanceAfterCents,
+			int cardDrawing, int cardDrawings, int prepaid) throws IOException {
+		if (cardDrawings < 0 || cardDrawings > MAX_CARD_DRAWINGS || cardDrawing < 0 || cardDrawing > cardDrawings
+				|| prepaid < 0 || prepaid > cardDrawings - cardDrawing) {
+			throw new IllegalArgumentException("Bad card position: drawing " + cardDrawing + " of " + cardDrawings
+					+ " with " + prepaid + " staked");
+		}
+		if (regionIndex != size / RECORDS_PER_REGION) {
+			syncRegion();
+			mapRegionFor(size);
+			regionDirtyFrom = 0;
+		}
+
+		int at = offsetInRegion(size);
+		region.putLong(at, drawId);
+		region.putLong(at + 8, drawLow);
+		region.putLong(at + 16, drawHigh);
+		region.putLong(at + 24, ticketLow);
+		region.putLong(at + 32, ticketHigh);
+		region.putInt(at + 40, bet);
+		region.putInt(at + 48, payout);
+		region.putLong(at + 56, balanceAfterCents);
+		if (version == 1) {
+			region.putInt(at + 44, matches);
+			region.putInt(at + 52, 0);
+		} else {
+			region.putShort(at + 44, (short) matches);
+			region.putShort(at + 46, (short) cardDrawing);
+			region.putShort(at + 52, (short) cardDrawings);
+			region.putShort(at + 54, (short) prepaid);
+		}
+		size++;
+
+		//group commit: one fsync covers every record since the last one
+		if (syncEvery > 0 && size - committed >= syncEvery) {
+			commit();
+		}
+		return size - 1;
+	}
+
+	//forces every written record to disk and then publishes the new count in the header
+	public synchronized void commit() {
+		if (committed == size) {
+			return;
+		}
+		syncRegion();
+		header.putLong(8, size);
+		header.force();
+		committed = size;
+	}
+
+	private void syncRegion() {
+		int end = offsetInRegion(size);
+		if (end == 0 && size > 0 && regionIndex != size / RECORDS_PER_REGION) {
+			end = (int) REGION_SIZE; //region is full
+		}
+		if (end > regionDirtyFrom) {
+			region.force(regionDirtyFrom, end - regionDirtyFrom);
+			regionDirtyFrom = end;
+		}
+	}
+
+	private void mapRegionFor(long record) throws IOException {
+		regionIndex = record / RECORDS_PER_REGION;
+		region = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + regionIndex * REGION_SIZE, REGION_SIZE);
+	}
+
+	private static int offsetInRegion(long record) {
+		return (int) (record % RECORDS_PER_REGION) * RECORD_SIZE;
+	}
+
+	//replays every committed record in order, one region at a time
+	public synchronized void replay(Visitor visitor) throws IOException {
+		long count = committed;
+		for (long first = 0; first < count; first += RECORDS_PER_REGION) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+					HEADER_SIZE + first * RECORD_SIZE, Math.min(count - first, RECORDS_PER_REGION) * RECORD_SIZE);
+			for (int at = 0; at < buffer.capacity(); at += RECORD_SIZE) {
+				boolean card = version > 1;
+				visitor.visit(buffer.getLong(at), buffer.getLong(at + 8), buffer.getLong(at + 16),
+						buffer.getLong(at + 24), buffer.getLong(at + 32), buffer.getInt(at + 40),
+						card ? buffer.getShort(at + 44) : buffer.getInt(at + 44), buffer.getInt(at + 48),
+						buffer.getLong(at + 56), card ? buffer.getShort(at + 46) : 0,
+						card ? buffer.getShort(at + 52) : 0, card ? buffer.getShort(at + 54) : 0);
+			}
+		}
+	}
+
+	//# of records written (including ones not synced yet)
+	public synchronized long size() {
+		return size;
+	}
+
+	//# of records that are safely on disk
+	public synchronized long committedSize() {
+		return committed;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		commit();
+		channel.close();
+	}
+
+	//layout version of this file (new files are always the latest)
+	public int getVersion() {
+		return version;
+	}
+
+	//callback for replay, gets the fields of one record
+	public interface Visitor {
+		void visit(long drawId, long drawLow, long drawHigh, long ticketLow, long ticketHigh,
+				int bet, int matches, int payout, long balanceAfterCents,
+				int cardDrawing, int cardDrawings, int prepaid);
+	}
+}
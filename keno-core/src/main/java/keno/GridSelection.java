@@ -0,0 +1,71 @@
+package keno;
+
+import java.util.List;
+
+
+//the player's picks on the 1-80 grid, kept as the same two word mask Drawing uses
+//this is the one place the UI asks "is n selected?" (no more comparing style strings)
+public class GridSelection {
+	private long low;
+	private long high;
+
+	//true if n is set in the mask (same layout as Drawing: 1-63 low word, 64-80 high word)
+	public static boolean contains(long low, long high, int n) {
+		if (n < 64) {
+			return (low & (1L << n)) != 0;
+		}
+		return (high & (1L << (n - 64))) != 0;
+	}
+
+	public boolean isSelected(int n) {
+		return contains(low, high, n);
+	}
+
+	//flips n on or off, returns true if it is now selected
+	public boolean toggle(int n) {
+		checkRange(n);
+		if (n < 64) {
+			low ^= 1L << n;
+		} else {
+			high ^= 1L << (n - 64);
+		}
+		return isSelected(n);
+	}
+
+	//replaces the selection with these numbers
+	public void setAll(List<Integer> numbers) {
+		for (int n : numbers) {
+			checkRange(n);
+		}
+		this.low = Drawing.lowBits(numbers);
+		this.high = Drawing.highBits(numbers);
+	}
+
+	public void clear() {
+		low = 0L;
+		high = 0L;
+	}
+
+	public int count() {
+		return Long.bitCount(low) + Long.bitCount(high);
+	}
+
+	//selected numbers in ascending order
+	public List<Integer> toList() {
+		return Drawing.toList(low, high);
+	}
+
+	public long getLow() {
+		return low;
+	}
+
+	public long getHigh() {
+		return high;
+	}
+
+	private static void checkRange(int n) {
+		if (n < 1 || n > 80) {
+			throw new IllegalArgumentException("Grid numbers must be between 1 and 80");
+		}
+	}
+}
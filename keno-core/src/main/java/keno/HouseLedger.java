@@ -0,0 +1,52 @@
+package keno;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+//aggregate totals for the house across every wallet
+//LongAdder spreads the updates over striped cells so settling threads don't fight over one counter
+public class HouseLedger {
+	private static final HouseLedger SHARED = new HouseLedger();
+
+	private final LongAdder wageredCents = new LongAdder();
+	private final LongAdder paidCents = new LongAdder();
+	private final LongAdder bets = new LongAdder();
+
+	//returns the ledger used by wallets that weren't given their own
+	public static HouseLedger shared() {
+		return SHARED;
+	}
+
+	void recordWager(long cents) {
+		wageredCents.add(cents);
+		bets.increment();
+	}
+
+	//a stake handed back (e.g. drawings of an advance ticket that never played), the bet still counts
+	void recordRefund(long cents) {
+		wageredCents.add(-cents);
+	}
+
+	void recordPayout(long cents) {
+		paidCents.add(cents);
+	}
+
+	//getters (sums are a snapshot, they can move while being read)
+
+	public long getWageredCents() {
+		return wageredCents.sum();
+	}
+
+	public long getPaidCents() {
+		return paidCents.sum();
+	}
+
+	public long getBetCount() {
+		return bets.sum();
+	}
+
+	//what the house has kept so far
+	public long getHoldCents() {
+		return getWageredCents() - getPaidCents();
+	}
+}
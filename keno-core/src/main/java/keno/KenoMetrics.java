@@ -0,0 +1,232 @@
+package keno;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+
+//engine metrics: counters, gauges and draw/settle/persist latency histograms
+//every game reports into shared(), which can be read over JMX or as prometheus text
+//turning it off (-Dkeno.metrics=false, or setEnabled over JMX) skips the clock reads as well
+//counters see every drawing, latencies are timed on 1 drawing in getSampleEvery() per game
+//(-Dkeno.metrics.sampleEvery, default 16) since the clock reads and histogram updates cost more than
+//the rest of the bookkeeping put together
+public final class KenoMetrics implements KenoMetricsMBean {
+	private static final KenoMetrics SHARED = new KenoMetrics();
+
+	private volatile boolean enabled = !"false".equals(System.getProperty("keno.metrics"));
+	private final int sampleMask = sampleMask(Integer.getInteger("keno.metrics.sampleEvery", 16));
+
+	//counters
+	private final LongAdder drawings = new LongAdder();
+	private final LongAdder rejectedBets = new LongAdder();
+	private final LongAdder winningsPaid = new LongAdder();
+
+	//gauges kept up to date by the games: open cards and the most they could still pay out
+	private final LongAdder openTickets = new LongAdder();
+	private final LongAdder liability = new LongAdder();
+
+	//phase latencies in nanoseconds
+	private final LatencyHistogram drawLatency = new LatencyHistogram();
+	private final LatencyHistogram settleLatency = new LatencyHistogram();
+	private final LatencyHistogram persistLatency = new LatencyHistogram();
+
+	//extra gauges registered by whoever owns the data (e.g. a TicketStore's size), sorted by name
+	private final Map<String, LongSupplier> gauges = new ConcurrentSkipListMap<>();
+
+	public KenoMetrics() {
+	}
+
+	//the metrics every Keno_Game reports to
+	public static KenoMetrics shared() {
+		return SHARED;
+	}
+
+	//sample intervals are rounded up to a power of two so the check is a mask
+	private static int sampleMask(int every) {
+		if (every < 1) {
+			throw new IllegalArgumentException("keno.metrics.sampleEvery must be at least 1");
+		}
+		return (every == 1) ? 0 : Integer.highestOneBit(every - 1) * 2 - 1;
+	}
+
+	//true if a game's drawing # tick (counted from 0) should be timed
+	boolean isSampled(int tick) {
+		return (tick & sampleMask) == 0;
+	}
+
+	//counts one settled drawing
+	void recordDrawing(int winnings) {
+		drawings.increment();
+		if (winnings > 0) {
+			winningsPaid.add(winnings);
+		}
+	}
+
+	//records a timed drawing from the timestamps taken around each phase
+	void recordLatency(long start, long drawn, long settled, long persisted) {
+		drawLatency.record(drawn - start);
+		settleLatency.record(settled - drawn);
+		persistLatency.record(persisted - settled);
+	}
+
+	void recordRejectedBet() {
+		rejectedBets.increment();
+	}
+
+	void addOpenTickets(int delta) {
+		openTickets.add(delta);
+	}
+
+	void addLiability(long delta) {
+		liability.add(delta);
+	}
+
+	//adds a gauge read at scrape time, replaces any gauge with the same name
+	public void registerGauge(String name, LongSupplier value) {
+		if (!name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+			throw new IllegalArgumentException("not a valid metric name: " + name);
+		}
+		gauges.put(name, value);
+	}
+
+	public void unregisterGauge(String name) {
+		gauges.remove(name);
+	}
+
+	//removes the gauge only if it's still this one, so an owner can't drop a gauge someone else registered since
+	public void unregisterGauge(String name, LongSupplier value) {
+		gauges.remove(name, value);
+	}
+
+	//registers this as keno:type=Metrics on the platform MBean server (does nothing if it already is)
+	public void registerMBean() {
+		try {
+			ObjectName name = new ObjectName("keno:type=Metrics");
+			if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+				ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("Could not register the metrics MBean", e);
+		}
+	}
+
+	//prometheus text exposition format (latencies as summaries in seconds)
+	@Override
+	public String getPrometheusText() {
+		StringBuilder out = new StringBuilder(2048);
+		counter(out, "keno_drawings_total", "Drawings settled", drawings.sum());
+		counter(out, "keno_rejected_bets_total", "Drawings refused because the bet could not be covered", rejectedBets.sum());
+		counter(out, "keno_winnings_paid_dollars_total", "Winnings paid out", winningsPaid.sum());
+		gauge(out, "keno_open_tickets", "Cards with drawings left to play", openTickets.sum());
+		gauge(out, "keno_liability_dollars", "Most the open cards could still win at their current bets", liability.sum());
+		for (Map.Entry<String, LongSupplier> entry : gauges.entrySet()) {
+			gauge(out, entry.getKey(), "Registered gauge", entry.getValue().getAsLong());
+		}
+		summary(out, "keno_draw_seconds", "Time to make the draw", drawLatency);
+		summary(out, "keno_settle_seconds", "Time to match, pay and credit a drawing", settleLatency);
+		summary(out, "keno_persist_seconds", "Time to journal a drawing", persistLatency);
+		return out.toString();
+	}
+
+	private static void counter(StringBuilder out, String name, String help, long value) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(" counter\n");
+		out.append(name).append(' ').append(value).append('\n');
+	}
+
+	private static void gauge(StringBuilder out, String name, String help, long value) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(" gauge\n");
+		out.append(name).append(' ').append(value).append('\n');
+	}
+
+	private static void summary(StringBuilder out, String name, String help, LatencyHistogram histogram) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(" summary\n");
+		for (double q : new double[] {0.5, 0.9, 0.99, 0.999}) {
+			out.append(name).append("{quantile=\"").append(q).append("\"} ")
+					.append(seconds(histogram.getValueAtPercentile(q * 100))).append('\n');
+		}
+		out.append(name).append("_sum ").append(seconds(histogram.getSum())).append('\n');
+		out.append(name).append("_count ").append(histogram.getCount()).append('\n');
+	}
+
+	private static String seconds(long nanos) {
+		return Double.toString(nanos / 1e9);
+	}
+
+	//getters
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public int getSampleEvery() {
+		return sampleMask + 1;
+	}
+
+	@Override
+	public long getDrawings() {
+		return drawings.sum();
+	}
+
+	@Override
+	public long getRejectedBets() {
+		return rejectedBets.sum();
+	}
+
+	@Override
+	public long getWinningsPaid() {
+		return winningsPaid.sum();
+	}
+
+	@Override
+	public long getOpenTickets() {
+		return openTickets.sum();
+	}
+
+	@Override
+	public long getLiability() {
+		return liability.sum();
+	}
+
+	@Override
+	public long getDrawP99Nanos() {
+		return drawLatency.getValueAtPercentile(99);
+	}
+
+	@Override
+	public long getSettleP99Nanos() {
+		return settleLatency.getValueAtPercentile(99);
+	}
+
+	@Override
+	public long getPersistP99Nanos() {
+		return persistLatency.getValueAtPercentile(99);
+	}
+
+	public LatencyHistogram getDrawLatency() {
+		return drawLatency;
+	}
+
+	public LatencyHistogram getSettleLatency() {
+		return settleLatency;
+	}
+
+	public LatencyHistogram getPersistLatency() {
+		return persistLatency;
+	}
+}
@@ -0,0 +1,30 @@
+package keno;
+
+
+//what KenoMetrics shows over JMX (registered as keno:type=Metrics)
+public interface KenoMetricsMBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	int getSampleEvery();
+
+	long getDrawings();
+
+	long getRejectedBets();
+
+	long getWinningsPaid();
+
+	long getOpenTickets();
+
+	long getLiability();
+
+	long getDrawP99Nanos();
+
+	long getSettleP99Nanos();
+
+	long getPersistP99Nanos();
+
+	String getPrometheusText();
+}
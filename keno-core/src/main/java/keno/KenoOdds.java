@@ -0,0 +1,166 @@
+package keno;
+
+//odds for any variant are the hypergeometric distribution of its pool, draw size and spots
+//the classic 80/20/10 game is worked out once up front since that's what gets asked for most
+public class KenoOdds {
+	private static final int POOL = GameConfig.STANDARD.getPoolSize();
+	private static final int DRAWN = GameConfig.STANDARD.getDrawSize();
+	private static final int MAX_SPOTS = GameConfig.STANDARD.getMaxSpots();
+
+	//pascal's triangle, BINOMIAL[n][k] = n choose k for n up to 80
+	private static final double[][] BINOMIAL = new double[POOL + 1][];
+
+	//MATCH_PROBABILITY[spots][matches] = chance of hitting exactly that many in the classic game
+	private static final double[][] MATCH_PROBABILITY = new double[MAX_SPOTS + 1][];
+
+	static {
+		for (int n = 0; n <= POOL; n++) {
+			BINOMIAL[n] = new double[n + 1];
+			BINOMIAL[n][0] = 1;
+			BINOMIAL[n][n] = 1;
+			for (int k = 1; k < n; k++) {
+				BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+			}
+		}
+
+		for (int spots = 0; spots <= MAX_SPOTS; spots++) {
+			MATCH_PROBABILITY[spots] = new double[spots + 1];
+			for (int m = 0; m <= spots; m++) {
+				MATCH_PROBABILITY[spots][m] =
+						choose(spots, m) * choose(POOL - spots, DRAWN - m) / choose(POOL, DRAWN);
+			}
+		}
+	}
+
+	private final Payout payout;
+	private final double[] probability; //chance of each # of matches for this paytable's spot game
+	private final double expectedReturn;
+	private final double variance;
+	private final double hitFrequency;
+
+	//works the stats out from the live paytable (all amounts are per $1 bet)
+	public KenoOdds(Payout payout) {
+		this(GameConfig.STANDARD, payout);
+	}
+
+	//same for a paytable of another variant, the odds come from its pool and draw size
+	public KenoOdds(GameConfig config, Payout payout) {
+		this.payout = payout;
+
+		this.probability = matchProbabilities(config, payout.getSpots());
+		double mean = 0;
+		double meanSquare = 0;
+		double hits = 0;
+		for (int m = 0; m < probability.length; m++) {
+			int prize = payout.getPayout(m);
+			mean += probability[m] * prize;
+			meanSquare += probability[m] * prize * (double) prize;
+			if (prize > 0) {
+				hits += probability[m];
+			}
+		}
+
+		this.expectedReturn = mean;
+		this.variance = meanSquare - mean * mean;
+		this.hitFrequency = hits;
+	}
+
+	//n choose k (0 when k is out of range)
+	public static double choose(int n, int k) {
+		if (k < 0 || k > n) {
+			return 0;
+		}
+		if (n <= POOL) {
+			return BINOMIAL[n][k];
+		}
+		return Math.exp(logChoose(n, k));
+	}
+
+	//ln(n choose k), big pools overflow a double long before the probabilities get small
+	private static double logChoose(int n, int k) {
+		k = Math.min(k, n - k);
+		double sum = 0;
+		for (int i = 1; i <= k; i++) {
+			sum += Math.log(n - k + i) - Math.log(i);
+		}
+		return sum;
+	}
+
+	//chance that a ticket with this many spots hits exactly this many of the 20 drawn
+	public static double matchProbability(int spots, int matches) {
+		return matchProbability(GameConfig.STANDARD, spots, matches);
+	}
+
+	//same for another variant's pool and draw size
+	public static double matchProbability(GameConfig config, int spots, int matches) {
+		double[] probability = matchProbabilities(config, spots);
+		if (matches < 0 || matches > spots) {
+			return 0;
+		}
+		return probability[matches];
+	}
+
+	//probability of 0..spots matches, shared rows for the classic game and worked out fresh for the rest
+	private static double[] matchProbabilities(GameConfig config, int spots) {
+		if (spots < 1 || spots > config.getMaxSpots()) {
+			throw new IllegalArgumentException("Spots must be between 1 and " + config.getMaxSpots());
+		}
+		int pool = config.getPoolSize();
+		int drawn = config.getDrawSize();
+		if (pool == POOL && drawn == DRAWN && spots <= MAX_SPOTS) {
+			return MATCH_PROBABILITY[spots];
+		}
+		double all = logChoose(pool, drawn);
+		double[] probability = new double[spots + 1];
+		for (int m = 0; m <= spots; m++) {
+			if (drawn - m <= pool - spots) {
+				probability[m] = Math.exp(logChoose(spots, m) + logChoose(pool - spots, drawn - m) - all);
+			}
+		}
+		return probability;
+	}
+
+	//getters
+
+	public Payout getPayout() {
+		return payout;
+	}
+
+	//average amount returned per $1 wagered (the RTP)
+	public double getExpectedReturn() {
+		return expectedReturn;
+	}
+
+	public double getHouseEdge() {
+		return 1 - expectedReturn;
+	}
+
+	public double getVariance() {
+		return variance;
+	}
+
+	public double getStandardDeviation() {
+		return Math.sqrt(variance);
+	}
+
+	//chance that a single drawing pays anything at all
+	public double getHitFrequency() {
+		return hitFrequency;
+	}
+
+	//the "1 in x" number from the odds chart
+	public double getOverallOdds() {
+		return 1 / hitFrequency;
+	}
+
+	//chance of landing on a prize tier (0 if that many matches doesn't pay)
+	public double getTierProbability(int matches) {
+		if (payout.getPayout(matches) == 0) {
+			return 0;
+		}
+		if (matches < 0 || matches > payout.getSpots()) {
+			return 0;
+		}
+		return probability[matches];
+	}
+}
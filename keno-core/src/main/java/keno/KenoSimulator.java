@@ -0,0 +1,212 @@
+package keno;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+//headless monte carlo run of the same logic as Keno_Game.processDrawing, no javafx here
+//usage: java KenoSimulator <spots> <bet> <drawings> <rounds> [seed]
+public class KenoSimulator {
+	//the work is always cut into the same # of chunks so a seed gives the same streams
+	//no matter how many cores the machine has
+	private static final int CHUNKS = 1024;
+
+	private final int spots;
+	private final int bet;
+	private final int drawings;
+	private final long rounds;
+	private final long seed;
+	private final Payout payout;
+
+	//constructor (one round = one quick pick card played for every drawing)
+	public KenoSimulator(int spots, int bet, int drawings, long rounds, long seed) {
+		if (bet < 1 || drawings < 1 || rounds < 1) {
+			throw new IllegalArgumentException("bet, drawings and rounds must be at least 1");
+		}
+		this.payout = Payout.forSpots(spots);
+		this.spots = spots;
+		this.bet = bet;
+		this.drawings = drawings;
+		this.rounds = rounds;
+		this.seed = seed;
+	}
+
+	//runs the simulation on the common pool (all cores)
+	public Result run() {
+		return run(ForkJoinPool.commonPool());
+	}
+
+	//runs the simulation on the given pool
+	public Result run(ForkJoinPool pool) {
+		int chunks = (int) Math.min(CHUNKS, rounds);
+
+		//split the streams up front, in order, so every chunk always gets the same one
+		SplittableRandom root = new SplittableRandom(seed);
+		SplittableRandom[] streams = new SplittableRandom[chunks];
+		for (int i = 0; i < chunks; i++) {
+			streams[i] = root.split();
+		}
+
+		long start = System.nanoTime();
+		long[] histogram = pool.invoke(new Chunk(streams, 0, chunks));
+		long elapsed = System.nanoTime() - start;
+
+		return new Result(histogram, elapsed);
+	}
+
+	//rounds handled by one chunk, the leftovers go to the first chunks
+	private long roundsFor(int chunk, int chunks) {
+		long share = rounds / chunks;
+		return (chunk < rounds % chunks) ? share + 1 : share;
+	}
+
+	//plays a range of chunks, splitting in half until there is a single chunk left
+	private class Chunk extends RecursiveTask<long[]> {
+		private static final long serialVersionUID = 1L;
+
+		private final SplittableRandom[] streams;
+		private final int from;
+		private final int to;
+
+		Chunk(SplittableRandom[] streams, int from, int to) {
+			this.streams = streams;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected long[] compute() {
+			if (to - from > 1) {
+				int mid = (from + to) >>> 1;
+				Chunk left = new Chunk(streams, from, mid);
+				left.fork();
+				long[] right = new Chunk(streams, mid, to).compute();
+				long[] merged = left.join();
+				for (int m = 0; m < merged.length; m++) {
+					merged[m] += right[m];
+				}
+				return merged;
+			}
+
+			//histogram of match counts for this worker, payouts follow from it
+			long[] histogram = new long[spots + 1];
+			DrawSampler sampler = new DrawSampler(streams[from]);
+			long chunkRounds = roundsFor(from, streams.length);
+
+			for (long r = 0; r < chunkRounds; r++) {
+				sampler.sample(spots);
+				long ticketLow = sampler.getLow();
+				long ticketHigh = sampler.getHigh();
+
+				for (int d = 0; d < drawings; d++) {
+					sampler.sample(20);
+					int matches = Long.bitCount(ticketLow & sampler.getLow())
+							+ Long.bitCount(ticketHigh & sampler.getHigh());
+					histogram[matches]++;
+				}
+			}
+			return histogram;
+		}
+	}
+
+	//merged outcome of a simulation run
+	public class Result {
+		private final long[] histogram;
+		private final long elapsedNanos;
+
+		private Result(long[] histogram, long elapsedNanos) {
+			this.histogram = histogram;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		//# of drawings that hit exactly this many matches
+		public long getMatchCount(int matches) {
+			return histogram[matches];
+		}
+
+		public long getDraws() {
+			return rounds * drawings;
+		}
+
+		public long getTotalWagered() {
+			return getDraws() * bet;
+		}
+
+		//total paid out on drawings that hit exactly this many matches
+		public long getPaidFor(int matches) {
+			return histogram[matches] * payout.getPayout(matches) * bet;
+		}
+
+		public long getTotalPaid() {
+			long paid = 0;
+			for (int m = 0; m < histogram.length; m++) {
+				paid += getPaidFor(m);
+			}
+			return paid;
+		}
+
+		//observed return per $1 wagered
+		public double getReturnToPlayer() {
+			return (double) getTotalPaid() / getTotalWagered();
+		}
+
+		//half width of the 95% confidence interval around the observed return
+		public double getConfidenceHalfWidth() {
+			double mean = getReturnToPlayer();
+			double meanSquare = 0;
+			for (int m = 0; m < histogram.length; m++) {
+				double prize = payout.getPayout(m);
+				meanSquare += histogram[m] * prize * prize;
+			}
+			meanSquare /= getDraws();
+			double variance = Math.max(0, meanSquare - mean * mean);
+			return 1.96 * Math.sqrt(variance / getDraws());
+		}
+
+		public double getExactReturnToPlayer() {
+			return new KenoOdds(payout).getExpectedReturn();
+		}
+
+		public double getRoundsPerSecond() {
+			return rounds / (elapsedNanos / 1e9);
+		}
+
+		//everything that depends only on the seed, then the timing line
+		public String report() {
+			StringBuilder text = new StringBuilder();
+			text.append(String.format("%d spot game, $%d bet, %d drawing(s), %,d rounds, seed %d%n",
+					spots, bet, drawings, rounds, seed));
+			for (int m = spots; m >= 0; m--) {
+				text.append(String.format("Match %2d: %,15d draws  $%,d paid%n", m, histogram[m], getPaidFor(m)));
+			}
+			double rtp = getReturnToPlayer();
+			double halfWidth = getConfidenceHalfWidth();
+			double exact = getExactReturnToPlayer();
+			text.append(String.format("Wagered: $%,d  Paid: $%,d%n", getTotalWagered(), getTotalPaid()));
+			text.append(String.format("Simulated RTP: %.4f%% (95%% CI %.4f%% - %.4f%%)%n",
+					rtp * 100, (rtp - halfWidth) * 100, (rtp + halfWidth) * 100));
+			text.append(String.format("Exact RTP:     %.4f%% (%s)%n", exact * 100,
+					Math.abs(rtp - exact) <= halfWidth ? "inside CI" : "OUTSIDE CI"));
+			text.append(String.format("House edge:    %.4f%%%n", (1 - rtp) * 100));
+			text.append(String.format("Speed: %,.0f rounds/sec (%,.0f drawings/sec)%n",
+					getRoundsPerSecond(), getRoundsPerSecond() * drawings));
+			return text.toString();
+		}
+	}
+
+	public static void main(String[] args) {
+		if (args.length < 4) {
+			System.out.println("usage: java KenoSimulator <spots> <bet> <drawings> <rounds> [seed]");
+			return;
+		}
+		int spots = Integer.parseInt(args[0]);
+		int bet = Integer.parseInt(args[1]);
+		int drawings = Integer.parseInt(args[2]);
+		long rounds = Long.parseLong(args[3]);
+		long seed = (args.length > 4) ? Long.parseLong(args[4]) : System.nanoTime();
+
+		KenoSimulator simulator = new KenoSimulator(spots, bet, drawings, rounds, seed);
+		System.out.print(simulator.run().report());
+	}
+}
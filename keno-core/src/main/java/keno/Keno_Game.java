@@ -0,0 +1,420 @@
+package keno;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+public class Keno_Game {
+	///has two instances of classes- Player and Drawing
+    private Player player; 
+    private Drawing drawing; 
+    private Payout payout; //shared paytable for the current spot game
+    private final GameJournal journal; //where every drawing is recorded (null = not persisted)
+    private final GameConfig config; //rules of the keno variant being played
+    private DrawStats stats; //live number stats fed by every drawing (null = not tracked)
+    private KenoMetrics metrics = KenoMetrics.shared(); //counters and phase timings
+    private long liability = 0; //what this card adds to the metrics' liability gauge
+    private int metricsTick = 0; //drawings settled by this game, picks which ones get timed
+    
+    private boolean gameActive = false; //flag for checking the game's status
+    private int totalDrawings = 1; //variable to keep track of player's choice of drawings 
+    private int totalWinnings = 0; //variable for keeping track of overall balance
+    private int currentDrawingWinnings = 0; //variable for keeping track of current game's balance
+    private int currentDrawingNumber = 1; //# of the drawing that plays next (1 based), past totalDrawings when the card is done
+    private long drawId = 0; //id of the last drawing, winnings are credited once per id
+
+    //constructor
+    public Keno_Game(int balance) {
+        this(balance, GameConfig.STANDARD);
+    }
+
+    //constructor for another keno variant (e.g. a 70 ball game)
+    public Keno_Game(int balance, GameConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("game config cannot be null");
+        }
+        this.config = config;
+        this.player = new Player(balance, config);
+        this.drawing = new Drawing(config);
+        this.journal = null;
+    }
+
+    //constructor that records every drawing to a journal
+    //if the journal already has drawings, the balance, last draw and any unfinished card are rebuilt from it instead
+    public Keno_Game(int balance, GameJournal journal) throws IOException {
+        this(balance, GameConfig.STANDARD, journal);
+    }
+
+    public Keno_Game(int balance, GameConfig config, GameJournal journal) throws IOException {
+        if (config == null) {
+            throw new IllegalArgumentException("game config cannot be null");
+        }
+        //journal records hold the draw and ticket as masks
+        if (!config.isMasked()) {
+            throw new IllegalArgumentException("Journal needs a pool of at most " + GameConfig.MASK_CAPACITY + " numbers");
+        }
+        this.config = config;
+        this.journal = journal;
+        this.player = new Player(balance, config);
+        this.drawing = new Drawing(config);
+
+        //last record wins: {draw id, draw low, draw high, balance after, ticket low, ticket high, bet, paid}
+        long[] last = new long[8];
+        //card of the last record: {drawing #, drawings, drawings staked but not played, winnings so far}
+        long[] card = new long[4];
+        journal.replay((id, drawLow, drawHigh, ticketLow, ticketHigh, bet, matches, paid, balanceAfter,
+                cardDrawing, cardDrawings, prepaid) -> {
+            last[0] = id;
+            last[1] = drawLow;
+            last[2] = drawHigh;
+            last[3] = balanceAfter;
+            last[4] = ticketLow;
+            last[5] = ticketHigh;
+            last[6] = bet;
+            last[7] = paid;
+            card[3] = (cardDrawing <= 1 ? 0 : card[3]) + paid; //drawing 1 starts a new card
+            card[0] = cardDrawing;
+            card[1] = cardDrawings;
+            card[2] = prepaid;
+        });
+
+        if (journal.committedSize() > 0) {
+            //drawings that were staked in advance but never played (crash mid advance play) get their
+            //stake back in the rebuilt balance, the card below can still play them
+            Wallet wallet = new Wallet(last[3] + card[2] * last[6] * 100L);
+            //every drawing in the journal was paid, so none of their ids can be credited again
+            wallet.markPaidThrough(last[0]);
+            this.player = new Player(wallet, config);
+            this.drawing.useDraw(last[1], last[2]);
+            this.drawId = last[0];
+            if (card[0] >= 1 && card[0] < card[1]) {
+                restoreCard(last[4], last[5], (int) last[6], (int) card[0], (int) card[1], (int) card[3], (int) last[7]);
+            }
+        }
+    }
+
+    //puts back a card the journal shows with drawings left, it carries on from the drawing after the last one
+    private void restoreCard(long ticketLow, long ticketHigh, int bet, int played, int drawings, int winnings,
+                             int lastWinnings) {
+        int spots = Long.bitCount(ticketLow) + Long.bitCount(ticketHigh);
+        this.payout = config.getPayout(spots);
+        player.initializePayout(spots);
+        player.selectNumbers(Drawing.toList(ticketLow, ticketHigh));
+        this.gameActive = true;
+        this.totalDrawings = drawings;
+        this.currentDrawingNumber = played + 1;
+        this.totalWinnings = winnings;
+        this.currentDrawingWinnings = lastWinnings;
+        metrics.addOpenTickets(1);
+        setLiability((long) bet * payout.getTopPrize() * getRemainingDrawings());
+    }
+
+    //function will activate game and initialize drawing & payout
+    public void startGame(int spots, int drawings) {
+        if (spots < 1 || spots > config.getMaxSpots()) {
+            throw new IllegalArgumentException("Spots must be between 1 and " + config.getMaxSpots());
+        }
+        if (drawings < 1) {
+            throw new IllegalArgumentException("A card needs at least 1 drawing");
+        }
+        if (journal != null && drawings > GameJournal.MAX_CARD_DRAWINGS) {
+            throw new IllegalArgumentException("A journaled card can have at most " + GameJournal.MAX_CARD_DRAWINGS + " drawings");
+        }
+        //look the paytable up first (throws for spot games the variant doesn't offer, e.g. 5)
+        //so a bad card leaves the game exactly as it was
+        Payout cardPayout = config.getPayout(spots);
+        
+        if (!gameActive) {
+        	metrics.addOpenTickets(1);
+        }
+        this.gameActive = true;
+        this.totalDrawings = drawings;
+        this.currentDrawingNumber = 1;
+        this.payout = cardPayout;
+        player.initializePayout(spots);
+        setLiability(0); //no bet on the new card yet
+    }
+
+    //function handles drawing after numbers chosen
+    public boolean processDrawing(List<Integer> playerNumbers, int betAmount) {
+    	return settleDrawing(playerNumbers, betAmount, null);
+    }
+    
+    //same as processDrawing, but settles against the venue's shared draw instead of making one
+    public boolean processDrawing(List<Integer> playerNumbers, int betAmount, DrawResult sharedDraw) {
+    	return settleDrawing(playerNumbers, betAmount, sharedDraw);
+    }
+    
+    private boolean settleDrawing(List<Integer> playerNumbers, int betAmount, DrawResult sharedDraw) {
+    	
+    	//ensure game has processed spots and drawing first 
+    	if(!gameActive) {
+    		return false;
+    	}
+    	
+    	//ensure bet amount is valid
+    	if(!player.placeBet(betAmount)) {
+    		metrics.recordRejectedBet();
+    		return false;
+    	}
+    	
+    	long ticketLow = config.isMasked() ? Drawing.lowBits(playerNumbers) : 0L;
+    	long ticketHigh = config.isMasked() ? Drawing.highBits(playerNumbers) : 0L;
+    	long lastId = drawId;
+    	try {
+    		settleOne(playerNumbers, ticketLow, ticketHigh, betAmount, sharedDraw, currentDrawingNumber, 0);
+    	} finally {
+    		//if settling threw (e.g. the journal write) the card still has to match the money:
+    		//a drawing that got its id was played and paid, one that didn't gets its bet back
+    		settled(lastId, 1, betAmount);
+    	}
+    	return true; 
+    }
+    
+    //advance play: settles the next draws of the card in one call instead of one processDrawing each
+    //the whole stake (bet per draw * draws) is debited up front in one step, so it either all plays or none of it does
+    //returns null if the game isn't active or the stake can't be covered
+    public AdvancePlayResult playAdvance(List<Integer> playerNumbers, int betPerDraw, int draws) {
+    	if (!gameActive) {
+    		return null;
+    	}
+    	int remaining = getRemainingDrawings();
+    	if (draws < 1 || draws > remaining) {
+    		throw new IllegalArgumentException("Advance play must cover between 1 and " + remaining + " drawings");
+    	}
+    	if (!player.placeAdvanceBet(betPerDraw, draws)) {
+    		metrics.recordRejectedBet();
+    		return null;
+    	}
+    	
+    	//the ticket mask is worked out once for every draw
+    	long ticketLow = config.isMasked() ? Drawing.lowBits(playerNumbers) : 0L;
+    	long ticketHigh = config.isMasked() ? Drawing.highBits(playerNumbers) : 0L;
+    	AdvancePlayResult result = new AdvancePlayResult(drawId + 1, draws, betPerDraw, config.getDrawSize());
+    	long lastId = drawId;
+    	try {
+    		for (int i = 0; i < draws; i++) {
+    			int matchCount = settleOne(playerNumbers, ticketLow, ticketHigh, betPerDraw, null,
+    					currentDrawingNumber + i, draws - i - 1);
+    			result.record(i, drawing, matchCount, currentDrawingWinnings);
+    		}
+    	} finally {
+    		//a failure partway through only moves the card past the drawings that were played
+    		//and hands back the stake of the rest, so they can be played (and paid for) again
+    		settled(lastId, draws, betPerDraw);
+    	}
+    	return result;
+    }
+    
+    //moves the card past the drawings played since lastId (each one takes an id when it's paid)
+    //and refunds the stake of any of the staked drawings that never got that far
+    private void settled(long lastId, int staked, int betPerDraw) {
+    	int played = (int) (drawId - lastId);
+    	if (played < staked) {
+    		player.getWallet().refund((long) betPerDraw * 100L * (staked - played));
+    	}
+    	advance(played);
+    }
+    
+    //plays one draw for the ticket (stake is already taken), returns the # of matches
+    //cardDrawing is its # on the card and prepaid how many drawings after it are already staked, both for the journal
+    private int settleOne(List<Integer> playerNumbers, long ticketLow, long ticketHigh, int betAmount, DrawResult sharedDraw,
+    		int cardDrawing, int prepaid) {
+    	//phase timestamps, only read the clock when metrics are on and this drawing is sampled
+    	boolean counted = metrics.isEnabled();
+    	boolean timed = counted && metrics.isSampled(metricsTick++);
+    	long start = timed ? System.nanoTime() : 0L;
+    	DrawingEvent event = new DrawingEvent();
+    	event.begin();
+    	
+    	//generate the random numbers (or take the shared ones)
+    	if (sharedDraw == null) {
+    		drawing.generateNumbers(config.getDrawSize());
+    	} else {
+    		drawing.useDraw(sharedDraw.getLow(), sharedDraw.getHigh());
+    	}
+    	
+    	//find the matches (popcount on the draw mask, no lists needed)
+    	int matchCount;
+    	if (config.isMasked()) {
+    		matchCount = drawing.findMatches(ticketLow, ticketHigh);
+    	} else {
+    		//pool is too big for the mask, compare the lists instead
+    		matchCount = drawing.findMatches(playerNumbers).size();
+    	}
+    	long drawn = timed ? System.nanoTime() : 0L;
+    	
+    	//shared draws are counted once by whoever made them, the ticket result is counted per game
+    	if (stats != null) {
+    		if (sharedDraw == null) {
+    			stats.record(drawing.getWinningLow(), drawing.getWinningHigh());
+    		}
+    		stats.recordMatches(payout.getSpots(), matchCount);
+    	}
+    	
+    	//calculate winnings 
+    	this.currentDrawingWinnings = betAmount * payout.getPayout(matchCount);
+    	this.totalWinnings += currentDrawingWinnings;
+    	
+    	drawId++;
+    	if(currentDrawingWinnings > 0) {
+    		player.awardWinnings(drawId, currentDrawingWinnings);
+    	}
+    	long settled = timed ? System.nanoTime() : 0L;
+    	
+    	//record the outcome before moving on
+    	if (journal != null) {
+    		try {
+    			journal.append(drawId, drawing.getWinningLow(), drawing.getWinningHigh(), ticketLow, ticketHigh,
+    					betAmount, matchCount, currentDrawingWinnings, player.getWallet().getBalanceCents(),
+    					cardDrawing, totalDrawings, prepaid);
+    		} catch (IOException e) {
+    			throw new UncheckedIOException("Could not write drawing " + drawId + " to the journal", e);
+    		}
+    	}
+    	//the drawing is settled (and journaled), its id can move under the wallet's paid mark
+    	player.getWallet().markPaidThrough(drawId);
+    	
+    	if (counted) {
+    		metrics.recordDrawing(currentDrawingWinnings);
+    	}
+    	if (timed) {
+    		long persisted = System.nanoTime();
+    		metrics.recordLatency(start, drawn, settled, persisted);
+    		if (event.shouldCommit()) {
+    			event.drawNanos = drawn - start;
+    			event.settleNanos = settled - drawn;
+    			event.persistNanos = persisted - settled;
+    		}
+    	}
+    	if (event.shouldCommit()) {
+    		event.drawId = drawId;
+    		event.spots = payout.getSpots();
+    		event.matches = matchCount;
+    		event.bet = betAmount;
+    		event.winnings = currentDrawingWinnings;
+    		event.commit();
+    	}
+    	return matchCount;
+    }
+    
+    //moves the card on by some drawings, the card is done once the last one has played
+    private void advance(int drawings) {
+    	currentDrawingNumber += drawings;
+    	if(currentDrawingNumber > totalDrawings) {
+    		gameActive = false;
+    		metrics.addOpenTickets(-1);
+    	}
+    	setLiability((long) player.getCurrentBet() * payout.getTopPrize() * getRemainingDrawings());
+    }
+    
+    //moves this card's share of the liability gauge to a new value
+    private void setLiability(long value) {
+    	if (value != liability) {
+    		metrics.addLiability(value - liability);
+    		liability = value;
+    	}
+    }
+    
+    //function that resets all private variables to their original values
+    public void resetGame(int initialBalance) {
+        if (gameActive) {
+        	metrics.addOpenTickets(-1);
+        }
+        setLiability(0);
+        this.player = new Player(initialBalance, config);
+        this.drawing = new Drawing(config);
+        this.currentDrawingNumber = 1;
+        this.totalDrawings = 1;
+        this.totalWinnings = 0;
+        this.currentDrawingWinnings = 0;
+        this.gameActive = false;
+    }
+    
+    //function that determines if more drawings need to be made
+    public boolean hasMoreDrawings() {
+    	return gameActive && currentDrawingNumber <= totalDrawings;
+    }
+    
+    //getters
+    
+    public int getCurrentDrawingWinnings() {
+    	return currentDrawingWinnings;
+    }
+    
+    public int getTotalWinnings() {
+    	return totalWinnings;
+    }
+    
+    public int getCurrentDrawingNumber() {
+    	return currentDrawingNumber;
+    }
+    
+    public long getDrawId() {
+    	return drawId;
+    }
+    
+    public int getTotalDrawings() {
+    	return totalDrawings;
+    }
+    
+    //drawings still to play on the card
+    public int getRemainingDrawings() {
+    	return gameActive ? totalDrawings - currentDrawingNumber + 1 : 0;
+    }
+    
+    public boolean isGameActive() {
+        return gameActive;
+    }
+    
+    public Player getPlayer() {
+        return player;
+    }
+    
+    public Drawing getDrawing() {
+        return drawing;
+    }
+    
+    public Payout getPayout() {
+        return payout;
+    }
+    
+    public GameJournal getJournal() {
+        return journal;
+    }
+    
+    public GameConfig getConfig() {
+        return config;
+    }
+    
+    public DrawStats getStats() {
+        return stats;
+    }
+    
+    //starts feeding every drawing into the stats (several games can share one)
+    public void setStats(DrawStats stats) {
+        if (stats != null && (stats.getPoolSize() != config.getPoolSize() || stats.getMaxSpots() < config.getMaxSpots())) {
+            throw new IllegalArgumentException("Stats don't cover this game's pool and spot games");
+        }
+        this.stats = stats;
+    }
+    
+    public KenoMetrics getMetrics() {
+        return metrics;
+    }
+    
+    //reports to other metrics than the shared ones (e.g. one set per table, or a fresh set in a test)
+    //an open card and its liability move over with the game
+    public void setMetrics(KenoMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("metrics cannot be null");
+        }
+        if (gameActive) {
+            this.metrics.addOpenTickets(-1);
+            metrics.addOpenTickets(1);
+        }
+        this.metrics.addLiability(-liability);
+        metrics.addLiability(liability);
+        this.metrics = metrics;
+    }
+}
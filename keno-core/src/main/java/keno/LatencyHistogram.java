@@ -0,0 +1,107 @@
+package keno;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+//HdrHistogram style latency histogram without the dependency: log-linear buckets,
+//16 linear sub-buckets per power of two, so any recorded value is off by at most ~6%
+//recording is one bucket increment plus a sum, safe from any thread and never allocates
+public class LatencyHistogram {
+	private static final int SUB_BITS = 4;
+	private static final int SUB = 1 << SUB_BITS;
+
+	//enough buckets for any positive long
+	private static final int BUCKETS = (64 - SUB_BITS) * SUB;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	//adds one value (negative values count as 0)
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		counts.incrementAndGet(bucket(value));
+		count.increment();
+		sum.add(value);
+		long seen = max.get();
+		while (value > seen && !max.compareAndSet(seen, value)) {
+			seen = max.get();
+		}
+	}
+
+	//values under 16 get their own bucket, above that each power of two is split into 16
+	static int bucket(long value) {
+		int msb = 63 - Long.numberOfLeadingZeros(value | 1);
+		if (msb < SUB_BITS) {
+			return (int) value;
+		}
+		int shift = msb - SUB_BITS;
+		return (shift + 1) * SUB + (int) ((value >>> shift) - SUB);
+	}
+
+	//largest value that lands in a bucket
+	static long highestValue(int bucket) {
+		if (bucket < SUB) {
+			return bucket;
+		}
+		int shift = bucket / SUB - 1;
+		long lowest = (long) (SUB + bucket % SUB) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	//smallest recorded value v such that the given percentile (0-100) of values are <= v (within bucket precision)
+	public long getValueAtPercentile(double percentile) {
+		long total = 0;
+		long[] snapshot = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100.0) / 100.0));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= target) {
+				return Math.min(highestValue(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	//getters
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getSum() {
+		return sum.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public double getMean() {
+		long n = count.sum();
+		return n == 0 ? 0 : (double) sum.sum() / n;
+	}
+
+	//starts over (not atomic with respect to concurrent records)
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		count.reset();
+		sum.reset();
+		max.set(0);
+	}
+}
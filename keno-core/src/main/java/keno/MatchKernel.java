@@ -0,0 +1,66 @@
+package keno;
+
+
+//the inner loop of settling a round: popcount each ticket mask against the draw and look the prize up
+//works straight on the ticket columns (see TicketBatch) so an implementation can process them in SIMD lanes
+//best() picks the Vector API kernel from keno-vector when it is on the class path and the
+//jdk.incubator.vector module is loaded, otherwise the scalar one
+public abstract class MatchKernel {
+	//prize table row width for the classic game: a ticket can hit 0-10 numbers
+	public static final int STRIDE = 11;
+
+	private static final MatchKernel SCALAR = new ScalarMatchKernel();
+	private static final MatchKernel BEST = load();
+
+	//returns the fastest kernel available on this JVM (-Dkeno.scalarKernel=true forces the scalar one)
+	public static MatchKernel best() {
+		return BEST;
+	}
+
+	public static MatchKernel scalar() {
+		return SCALAR;
+	}
+
+	//a scalar kernel that pays on another variant's paytables (the classic game gets the shared one)
+	public static MatchKernel scalar(GameConfig config) {
+		return (config == GameConfig.STANDARD) ? SCALAR : new ScalarMatchKernel(config);
+	}
+
+	private static MatchKernel load() {
+		if (Boolean.getBoolean("keno.scalarKernel")) {
+			return SCALAR;
+		}
+		try {
+			return (MatchKernel) Class.forName("keno.vector.VectorMatchKernel").getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			// keno-vector isn't there or the incubator module wasn't added with --add-modules
+			return SCALAR;
+		}
+	}
+
+	//flat prize table, prizes[spots * STRIDE + hits] is the prize per $1 (0 for spot games with no paytable)
+	protected static int[] prizeTable() {
+		return prizeTable(GameConfig.STANDARD);
+	}
+
+	//same for any variant, the row width is getMaxSpots() + 1
+	protected static int[] prizeTable(GameConfig config) {
+		int stride = config.getMaxSpots() + 1;
+		int[] prizes = new int[stride * stride];
+		for (int spots : config.getSpotGames()) {
+			Payout payout = config.getPayout(spots);
+			for (int hits = 0; hits <= spots; hits++) {
+				prizes[spots * stride + hits] = payout.getPayout(hits);
+			}
+		}
+		return prizes;
+	}
+
+	//settles tickets [from, to) against one draw and returns the total paid
+	//tickets with drawingsRemaining 0 are finished and get 0, live ones have it decremented
+	public abstract long settle(long drawLow, long drawHigh, long[] pickLow, long[] pickHigh, int[] spots,
+			int[] bet, int[] drawingsRemaining, int[] matches, long[] winnings, int from, int to);
+
+	//short name for reports and benchmarks
+	public abstract String getName();
+}
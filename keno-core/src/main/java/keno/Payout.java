@@ -0,0 +1,125 @@
+package keno;
+
+public class Payout {
+	//shared paytables, one per spot game (index = # of spots), built once
+	private static final Payout[] TABLES = new Payout[11];
+
+	static {
+		TABLES[1] = new Payout(1);
+		TABLES[4] = new Payout(4);
+		TABLES[8] = new Payout(8);
+		TABLES[10] = new Payout(10);
+	}
+
+	//dense prize table indexed directly by the # of matches (0 when nothing is paid)
+    private final int spots;
+    private final int[] prizeByMatches;
+    private final int topPrize; //biggest prize on the table, used for liability
+
+
+    public Payout(int spotsChosen) {
+
+    	if(spotsChosen != 1 && spotsChosen != 4 && spotsChosen != 8 && spotsChosen != 10)  {
+    		throw new IllegalArgumentException("Game must be a 1, 4, 8, or 10 spot game!");
+    	}
+
+    	//match array handles the # of matches, prize array the corresponding prize
+    	int[] matchArray;
+    	int[] prizeArray;
+
+        switch (spotsChosen) {
+
+        //cases represent the #spot game
+
+            case 1:
+            	matchArray = new int[]{1};
+            	prizeArray = new int[]{2};
+            	break;
+
+            case 4 :
+            	matchArray = new int[]{2, 3, 4};
+            	prizeArray = new int[]{1, 5, 75};
+            	break;
+
+            case 8 :
+            	matchArray = new int[]{4, 5, 6, 7, 8};
+            	prizeArray = new int[]{2, 12, 50, 750, 10000};
+            	break;
+
+            case 10 :
+            	matchArray = new int[]{0, 5, 6, 7, 8, 9, 10};
+            	prizeArray = new int[]{5, 2, 15, 40, 450, 4250, 100000};
+            	break;
+
+            default :
+            	throw new IllegalArgumentException("Invalid number of spots: " + spotsChosen);
+    	}
+
+        this.spots = spotsChosen;
+        this.prizeByMatches = dense(spotsChosen, matchArray, prizeArray);
+        this.topPrize = max(prizeByMatches);
+    }
+
+    //custom paytable for other keno variants (see GameConfig), matches[i] pays prizes[i]
+    public Payout(int spotsChosen, int[] matches, int[] prizes) {
+    	if (spotsChosen < 1) {
+    		throw new IllegalArgumentException("Game must have at least 1 spot");
+    	}
+    	if (matches == null || prizes == null || matches.length != prizes.length) {
+    		throw new IllegalArgumentException("Every match count needs exactly one prize");
+    	}
+    	for (int i = 0; i < matches.length; i++) {
+    		if (matches[i] < 0 || matches[i] > spotsChosen) {
+    			throw new IllegalArgumentException("Cannot match " + matches[i] + " in a " + spotsChosen + " spot game");
+    		}
+    		if (prizes[i] < 0) {
+    			throw new IllegalArgumentException("Prize cannot be negative: " + prizes[i]);
+    		}
+    	}
+
+    	this.spots = spotsChosen;
+    	this.prizeByMatches = dense(spotsChosen, matches, prizes);
+    	this.topPrize = max(prizeByMatches);
+    }
+
+    //spreads the (match, prize) pairs out into an array indexed by # of matches
+    private static int[] dense(int spots, int[] matches, int[] prizes) {
+    	int[] table = new int[spots + 1];
+    	for (int i = 0; i < matches.length; i++) {
+    		table[matches[i]] = prizes[i];
+    	}
+    	return table;
+    }
+
+    //returns the shared paytable for a spot game instead of building a new one
+    public static Payout forSpots(int spotsChosen) {
+    	if (spotsChosen < 0 || spotsChosen >= TABLES.length || TABLES[spotsChosen] == null) {
+    		throw new IllegalArgumentException("Game must be a 1, 4, 8, or 10 spot game!");
+    	}
+    	return TABLES[spotsChosen];
+    }
+
+    private static int max(int[] prizes) {
+    	int top = 0;
+    	for (int prize : prizes) {
+    		top = Math.max(top, prize);
+    	}
+    	return top;
+    }
+
+    public int getSpots() {
+    	return spots;
+    }
+
+    public int getTopPrize() {
+    	return topPrize;
+    }
+
+    //looks the prize up by # of matches, just an array load
+	public int getPayout(int matches) {
+		if (matches < 0 || matches >= prizeByMatches.length) {
+			return 0;
+		}
+		return prizeByMatches[matches];
+	}
+}
@@ -0,0 +1,157 @@
+package keno;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class Player {
+
+    private final Wallet wallet; //balance for player (kept in cents, safe to settle from any thread)
+    private volatile int currentBet = 0; //wager that player placed
+    private List<Integer> selectedNumbers; //numbers that player chose
+    private Payout payout; //shared paytable for the player's spot game
+    private final GameConfig config; //pool size, max spots and paytables of the variant being played
+    
+    //default constructor
+    public Player() {
+        this.wallet = new Wallet(100 * 100L);
+        this.config = GameConfig.STANDARD;
+        this.selectedNumbers = new ArrayList<>();
+        this.currentBet = 0;
+        this.payout = null;
+    }
+    
+    //parameterized constructor (adds balance for recurring games)
+    public Player(int addBalance) {
+    	this(addBalance, GameConfig.STANDARD);
+    }
+    
+    //parameterized constructor for another keno variant
+    public Player(int addBalance, GameConfig config) {
+    	this(new Wallet(addBalance * 100L), config);
+    }
+    
+    //constructor around an existing wallet (e.g. a balance rebuilt from the journal)
+    public Player(Wallet wallet) {
+    	this(wallet, GameConfig.STANDARD);
+    }
+    
+    public Player(Wallet wallet, GameConfig config) {
+    	if (config == null) {
+    		throw new IllegalArgumentException("game config cannot be null");
+    	}
+    	this.wallet = wallet;
+    	this.config = config;
+    	this.selectedNumbers = new ArrayList<>();
+    	this.currentBet = 0;
+    	this.payout = null;
+    }
+    
+    //initalizes payout instance through passing in the player's choice of spot(s) game
+    public void initializePayout(int spots) {
+    	this.payout = config.getPayout(spots);
+    }
+    
+    //getters
+    
+    public Integer getBalance() {
+    	return (int) (wallet.getBalanceCents() / 100);
+    }
+    
+    public Wallet getWallet() {
+    	return wallet;
+    }
+    
+    public Integer getCurrentBet() { 
+    	return currentBet; 
+    }
+    
+    public List<Integer> getSelectedNumbers() {
+    	return new ArrayList<>(selectedNumbers);
+    }
+    
+    public int getSpotsChosen() { 
+    	return selectedNumbers.size(); 
+    }    
+    
+    public Payout gePayout() {
+    	return payout;
+    }
+    
+    public GameConfig getConfig() {
+    	return config;
+    }
+    
+    //function for intializing selected numbers and payout 
+    public boolean selectNumbers(List<Integer> numbers) {
+        if (numbers == null || numbers.size() < 1 || numbers.size() > config.getMaxSpots()) {
+            return false;
+        }
+        
+        for(int n : numbers) {
+        	if(n < 1 || n > config.getPoolSize()) {
+        		return false;
+        	}
+        }
+        this.selectedNumbers = new ArrayList<>(numbers);
+        this.payout = config.getPayout(numbers.size());
+        return true;
+    }
+    
+    //function that generates numbers if player chose not to pick themselves
+    public void quickPick(int numSpots) {
+        DrawSampler sampler = DrawSampler.current(config.getPoolSize());
+        sampler.sample(numSpots);
+        
+        selectedNumbers.clear();
+        for (int i = 0; i < numSpots; i++) {
+            selectedNumbers.add(sampler.get(i));
+        }
+        
+        this.payout = config.getPayout(numSpots);
+    }
+    
+    //function that checks the vaildity of the bet and decreases the amount from player's balance
+    public boolean placeBet(int amount) {
+        //the check and the debit happen in one CAS so two drawings can't both spend the same money
+        if (amount > 0 && wallet.debit(amount * 100L)) {
+            this.currentBet = amount;
+            return true;
+        }
+        return false;
+    }
+    
+    //takes the stake for an advance play ticket (bet on each of several drawings) in one debit
+    public boolean placeAdvanceBet(int betPerDraw, int draws) {
+        if (betPerDraw > 0 && draws > 0 && wallet.debit(betPerDraw * 100L * draws)) {
+            this.currentBet = betPerDraw;
+            return true;
+        }
+        return false;
+    }
+    
+    //function that awards winnings after matched numbers found
+    public void awardWinnings(int amount) {
+        wallet.pay(amount * 100L);
+    }
+    
+    //awards winnings for a ticket/draw id, paying the same id twice does nothing
+    public boolean awardWinnings(long id, int amount) {
+        return wallet.credit(id, amount * 100L);
+    }
+    
+    //function that returns T/F if balance is less than amount wagered
+    public boolean canAffordBet(int amount) {
+        return amount * 100L <= wallet.getBalanceCents();
+    }
+    
+    //function that calculates multiplier 
+    public int calculateWinnings(int matches) {
+    	if(payout == null) {
+    		return 0;
+    		}
+    	
+    	int prizeMultiplier = payout.getPayout(matches);
+    	return currentBet * prizeMultiplier;
+    }
+}
@@ -0,0 +1,16 @@
+package keno;
+
+
+//the default source: draws with the sampler's own generator, which for the per-thread
+//samplers is a SplittableRandom, so there is no locking and no shared state
+public final class RandomDrawSource implements DrawSource {
+    public static final RandomDrawSource INSTANCE = new RandomDrawSource();
+
+    private RandomDrawSource() {
+    }
+
+    @Override
+    public void draw(DrawSampler sampler, int count) {
+    	sampler.sample(count);
+    }
+}
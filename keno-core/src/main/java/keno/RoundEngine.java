@@ -0,0 +1,82 @@
+package keno;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+//settles a whole batch of tickets against one draw in a single pass
+public class RoundEngine {
+	//batches smaller than this are settled on the calling thread
+	private static final int PARALLEL_THRESHOLD = 16384;
+
+	private final ForkJoinPool pool;
+
+	//constructor (uses the common pool for big batches)
+	public RoundEngine() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	public RoundEngine(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	//settles every ticket against the drawing's current draw, returns the total paid out
+	public long settle(Drawing drawing, TicketBatch batch) {
+		if (drawing.getConfig().getPoolSize() != batch.getConfig().getPoolSize()) {
+			throw new IllegalArgumentException("a " + drawing.getConfig().getPoolSize()
+					+ " number draw can't settle tickets for a " + batch.getConfig().getPoolSize() + " number game");
+		}
+		return settle(drawing.getWinningLow(), drawing.getWinningHigh(), batch);
+	}
+
+	//settles every ticket against a draw mask, returns the total paid out
+	public long settle(long drawLow, long drawHigh, TicketBatch batch) {
+		int size = batch.size();
+		if (size < PARALLEL_THRESHOLD) {
+			return batch.settleRange(drawLow, drawHigh, 0, size);
+		}
+		return pool.invoke(new Slice((from, to) -> batch.settleRange(drawLow, drawHigh, from, to), 0, size));
+	}
+
+	//settles every open ticket in the store against a draw mask, returns the total paid out
+	//winners are handed to the payee, which has to be thread safe for big stores
+	public long settle(long drawLow, long drawHigh, TicketStore store, TicketStore.Payee payee) {
+		int size = store.size();
+		if (size < PARALLEL_THRESHOLD) {
+			return store.settleRange(drawLow, drawHigh, 0, size, payee);
+		}
+		return pool.invoke(new Slice((from, to) -> store.settleRange(drawLow, drawHigh, from, to, payee), 0, size));
+	}
+
+	//settles tickets [from, to) of whatever is being settled, returns the amount paid
+	private interface Range {
+		long settle(int from, int to);
+	}
+
+	//settles a slice of the tickets, splitting in half until it is small enough
+	private static class Slice extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+
+		private final Range range;
+		private final int from;
+		private final int to;
+
+		Slice(Range range, int from, int to) {
+			this.range = range;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Long compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				return range.settle(from, to);
+			}
+			int mid = (from + to) >>> 1;
+			Slice left = new Slice(range, from, mid);
+			left.fork();
+			long right = new Slice(range, mid, to).compute();
+			return left.join() + right;
+		}
+	}
+}
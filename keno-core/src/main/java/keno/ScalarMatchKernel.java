@@ -0,0 +1,42 @@
+package keno;
+
+
+//one ticket at a time, Long.bitCount compiles down to a single popcnt instruction
+final class ScalarMatchKernel extends MatchKernel {
+	private final int[] prizes;
+	private final int stride;
+
+	ScalarMatchKernel() {
+		this(GameConfig.STANDARD);
+	}
+
+	ScalarMatchKernel(GameConfig config) {
+		this.prizes = prizeTable(config);
+		this.stride = config.getMaxSpots() + 1;
+	}
+
+	@Override
+	public long settle(long drawLow, long drawHigh, long[] pickLow, long[] pickHigh, int[] spots,
+			int[] bet, int[] drawingsRemaining, int[] matches, long[] winnings, int from, int to) {
+		long paid = 0;
+		for (int i = from; i < to; i++) {
+			if (drawingsRemaining[i] == 0) {
+				matches[i] = 0;
+				winnings[i] = 0;
+				continue;
+			}
+			int hits = Long.bitCount(pickLow[i] & drawLow) + Long.bitCount(pickHigh[i] & drawHigh);
+			long won = (long) bet[i] * prizes[spots[i] * stride + hits];
+			matches[i] = hits;
+			winnings[i] = won;
+			drawingsRemaining[i]--;
+			paid += won;
+		}
+		return paid;
+	}
+
+	@Override
+	public String getName() {
+		return "scalar";
+	}
+}
@@ -0,0 +1,39 @@
+package keno;
+
+import java.util.SplittableRandom;
+
+
+//deterministic source: the same seed always gives the same sequence of draws
+//the pool is reset before each draw so the sequence doesn't depend on which sampler was used
+public class SeededDrawSource implements DrawSource {
+    private final long seed;
+    private SplittableRandom rng;
+    private long draws;
+
+    //constructor
+    public SeededDrawSource(long seed) {
+    	this.seed = seed;
+    	this.rng = new SplittableRandom(seed);
+    }
+
+    @Override
+    public synchronized void draw(DrawSampler sampler, int count) {
+    	sampler.reset();
+    	sampler.sample(count, rng);
+    	draws++;
+    }
+
+    //starts the sequence over from the first draw
+    public synchronized void rewind() {
+    	rng = new SplittableRandom(seed);
+    	draws = 0;
+    }
+
+    public long getSeed() {
+    	return seed;
+    }
+
+    public synchronized long getDrawCount() {
+    	return draws;
+    }
+}
@@ -0,0 +1,154 @@
+package keno;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+//a batch of tickets stored column by column (one primitive array per field)
+//so settling a round is a straight scan with no objects per ticket
+public class TicketBatch {
+	private static final int INITIAL_CAPACITY = 1024;
+
+	//does the actual matching, vectorized when keno-vector is available (classic game only)
+	private static final MatchKernel KERNEL = MatchKernel.best();
+
+	private final GameConfig config;
+	private final MatchKernel kernel;
+
+	private long[] pickLow;
+	private long[] pickHigh;
+	private int[] spots;
+	private int[] bet;
+	private int[] drawingsRemaining;
+
+	//results of the last settlement
+	private int[] matches;
+	private long[] winnings;
+
+	private int size = 0;
+
+	//constructor
+	public TicketBatch() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public TicketBatch(int capacity) {
+		this(GameConfig.STANDARD, capacity);
+	}
+
+	//constructor for another keno variant, its tickets are settled on its own paytables
+	public TicketBatch(GameConfig config, int capacity) {
+		if (!config.isMasked()) {
+			throw new IllegalArgumentException("a " + config.getPoolSize() + " number pool does not fit the ticket mask");
+		}
+		this.config = config;
+		this.kernel = (config == GameConfig.STANDARD) ? KERNEL : MatchKernel.scalar(config);
+		capacity = Math.max(capacity, 1);
+		this.pickLow = new long[capacity];
+		this.pickHigh = new long[capacity];
+		this.spots = new int[capacity];
+		this.bet = new int[capacity];
+		this.drawingsRemaining = new int[capacity];
+		this.matches = new int[capacity];
+		this.winnings = new long[capacity];
+	}
+
+	//adds a ticket from the player's list of numbers, returns its index in the batch
+	public int add(List<Integer> numbers, int betAmount, int drawings) {
+		for (int n : numbers) {
+			if (n < 1 || n > config.getPoolSize()) {
+				throw new IllegalArgumentException("Ticket numbers must be between 1 and " + config.getPoolSize());
+			}
+		}
+		return add(Drawing.lowBits(numbers), Drawing.highBits(numbers), betAmount, drawings);
+	}
+
+	//adds a ticket from its pick mask, the spot count is the # of bits set
+	public int add(long low, long high, int betAmount, int drawings) {
+		if ((low & ~config.getPoolLow()) != 0 || (high & ~config.getPoolHigh()) != 0) {
+			throw new IllegalArgumentException("Ticket numbers must be between 1 and " + config.getPoolSize());
+		}
+		int spotCount = Long.bitCount(low) + Long.bitCount(high);
+		config.getPayout(spotCount); //throws for a spot game with no paytable
+
+		if (betAmount < 1 || drawings < 1) {
+			throw new IllegalArgumentException("bet and drawings must be at least 1");
+		}
+
+		if (size == pickLow.length) {
+			grow();
+		}
+		pickLow[size] = low;
+		pickHigh[size] = high;
+		spots[size] = spotCount;
+		bet[size] = betAmount;
+		drawingsRemaining[size] = drawings;
+		matches[size] = 0;
+		winnings[size] = 0;
+		return size++;
+	}
+
+	//doubles every column
+	private void grow() {
+		int capacity = pickLow.length * 2;
+		pickLow = Arrays.copyOf(pickLow, capacity);
+		pickHigh = Arrays.copyOf(pickHigh, capacity);
+		spots = Arrays.copyOf(spots, capacity);
+		bet = Arrays.copyOf(bet, capacity);
+		drawingsRemaining = Arrays.copyOf(drawingsRemaining, capacity);
+		matches = Arrays.copyOf(matches, capacity);
+		winnings = Arrays.copyOf(winnings, capacity);
+	}
+
+	//settles tickets [from, to) against one draw, returns the total paid out
+	//tickets with no drawings left are skipped and get 0 for this round
+	long settleRange(long drawLow, long drawHigh, int from, int to) {
+		return kernel.settle(drawLow, drawHigh, pickLow, pickHigh, spots, bet, drawingsRemaining,
+				matches, winnings, from, to);
+	}
+
+	//removes every ticket
+	public void clear() {
+		size = 0;
+	}
+
+	//getters
+
+	public int size() {
+		return size;
+	}
+
+	public GameConfig getConfig() {
+		return config;
+	}
+
+	public long getPickLow(int ticket) {
+		return pickLow[ticket];
+	}
+
+	public long getPickHigh(int ticket) {
+		return pickHigh[ticket];
+	}
+
+	public int getSpots(int ticket) {
+		return spots[ticket];
+	}
+
+	public int getBet(int ticket) {
+		return bet[ticket];
+	}
+
+	public int getDrawingsRemaining(int ticket) {
+		return drawingsRemaining[ticket];
+	}
+
+	//# of matches the ticket had in the last settled round
+	public int getMatches(int ticket) {
+		return matches[ticket];
+	}
+
+	//amount the ticket won in the last settled round
+	public long getWinnings(int ticket) {
+		return winnings[ticket];
+	}
+}
@@ -0,0 +1,260 @@
+package keno;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+
+//open tickets for a whole node, stored column by column in (optionally off-heap) buffers
+//a ticket is 25 bytes and no objects, so tens of millions of them cost the GC nothing:
+//  picks    8 + 2 bytes  80 bit mask, bit n-1 is set for number n
+//  spots    1 byte
+//  bet      4 bytes
+//  drawings 2 bytes      drawings left, 0 = finished (removed by compact)
+//  owner    8 bytes      whoever gets paid (wallet / player / session id)
+//unlike TicketBatch this keeps no per-ticket results, winners are handed to a Payee during the scan
+public class TicketStore {
+	private static final int INITIAL_CAPACITY = 1024;
+	public static final int BYTES_PER_TICKET = 8 + 2 + 1 + 4 + 2 + 8;
+
+	//the biggest capacity the long columns can index
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+	private final GameConfig config;
+	private final int[] prizes; //flat prize table, see MatchKernel.prizeTable
+	private final int stride;
+	private final boolean offHeap;
+	private int capacity;
+	private int size = 0;
+
+	private ByteBuffer pickLow;
+	private ByteBuffer pickHigh;
+	private ByteBuffer spots;
+	private ByteBuffer bet;
+	private ByteBuffer drawingsRemaining;
+	private ByteBuffer owner;
+
+	//gets told about every winning ticket while settling
+	public interface Payee {
+		void pay(long ownerId, int ticket, int matches, long winnings);
+	}
+
+	//constructor (off-heap)
+	public TicketStore() {
+		this(INITIAL_CAPACITY, true);
+	}
+
+	public TicketStore(int capacity, boolean offHeap) {
+		this(GameConfig.STANDARD, capacity, offHeap);
+	}
+
+	//constructor for another keno variant, picks are packed into 80 bits so the pool can't be bigger than that
+	public TicketStore(GameConfig config, int capacity, boolean offHeap) {
+		if (config.getPoolSize() > 80) {
+			throw new IllegalArgumentException("Ticket store only holds pools of up to 80 numbers, not "
+					+ config.getPoolSize());
+		}
+		if (capacity < 1 || capacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+		}
+		this.config = config;
+		this.prizes = MatchKernel.prizeTable(config);
+		this.stride = config.getMaxSpots() + 1;
+		this.offHeap = offHeap;
+		this.capacity = capacity;
+		this.pickLow = allocate(capacity * Long.BYTES);
+		this.pickHigh = allocate(capacity * Short.BYTES);
+		this.spots = allocate(capacity);
+		this.bet = allocate(capacity * Integer.BYTES);
+		this.drawingsRemaining = allocate(capacity * Short.BYTES);
+		this.owner = allocate(capacity * Long.BYTES);
+	}
+
+	private ByteBuffer allocate(int bytes) {
+		ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+		return buffer.order(ByteOrder.nativeOrder());
+	}
+
+	//the ticket mask (bit n = number n) packed down to 80 bits, low 64 here...
+	static long packLow(long low, long high) {
+		return (low >>> 1) | (high << 63);
+	}
+
+	//...and the top 16 here
+	static int packHigh(long high) {
+		return (int) (high >>> 1) & 0xFFFF;
+	}
+
+	//adds a ticket from the player's list of numbers, returns its index in the store
+	public int append(long ownerId, List<Integer> numbers, int betAmount, int drawings) {
+		for (int n : numbers) {
+			if (n < 1 || n > config.getPoolSize()) {
+				throw new IllegalArgumentException("Ticket numbers must be between 1 and " + config.getPoolSize());
+			}
+		}
+		return append(ownerId, Drawing.lowBits(numbers), Drawing.highBits(numbers), betAmount, drawings);
+	}
+
+	//adds a ticket from its pick mask, the spot count is the # of bits set
+	public int append(long ownerId, long low, long high, int betAmount, int drawings) {
+		if ((low & ~config.getPoolLow()) != 0 || (high & ~config.getPoolHigh()) != 0) {
+			throw new IllegalArgumentException("Ticket numbers must be between 1 and " + config.getPoolSize());
+		}
+		int spotCount = Long.bitCount(low) + Long.bitCount(high);
+		config.getPayout(spotCount); //throws for a spot game with no paytable
+
+		if (betAmount < 1 || drawings < 1 || drawings > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("bet must be at least 1 and drawings between 1 and " + Short.MAX_VALUE);
+		}
+
+		if (size == capacity) {
+			grow();
+		}
+		int i = size;
+		pickLow.putLong(i * Long.BYTES, packLow(low, high));
+		pickHigh.putShort(i * Short.BYTES, (short) packHigh(high));
+		spots.put(i, (byte) spotCount);
+		bet.putInt(i * Integer.BYTES, betAmount);
+		drawingsRemaining.putShort(i * Short.BYTES, (short) drawings);
+		owner.putLong(i * Long.BYTES, ownerId);
+		return size++;
+	}
+
+	//doubles every column (the old buffers are freed once nothing points at them)
+	private void grow() {
+		if (capacity == MAX_CAPACITY) {
+			throw new IllegalStateException("Ticket store is full at " + MAX_CAPACITY + " tickets");
+		}
+		int newCapacity = (int) Math.min((long) capacity * 2, MAX_CAPACITY);
+		pickLow = copy(pickLow, newCapacity * Long.BYTES);
+		pickHigh = copy(pickHigh, newCapacity * Short.BYTES);
+		spots = copy(spots, newCapacity);
+		bet = copy(bet, newCapacity * Integer.BYTES);
+		drawingsRemaining = copy(drawingsRemaining, newCapacity * Short.BYTES);
+		owner = copy(owner, newCapacity * Long.BYTES);
+		capacity = newCapacity;
+	}
+
+	private ByteBuffer copy(ByteBuffer from, int bytes) {
+		ByteBuffer to = allocate(bytes);
+		to.put(from.duplicate().clear());
+		to.clear();
+		return to;
+	}
+
+	//settles every open ticket against one draw, returns the total paid out
+	//single threaded, RoundEngine splits big stores across cores
+	public long settle(long drawLow, long drawHigh, Payee payee) {
+		return settleRange(drawLow, drawHigh, 0, size, payee);
+	}
+
+	//settles tickets [from, to), finished tickets are skipped
+	long settleRange(long drawLow, long drawHigh, int from, int to, Payee payee) {
+		long packedLow = packLow(drawLow, drawHigh);
+		int packedHigh = packHigh(drawHigh);
+		long paid = 0;
+		for (int i = from; i < to; i++) {
+			int left = drawingsRemaining.getShort(i * Short.BYTES);
+			if (left == 0) {
+				continue;
+			}
+			drawingsRemaining.putShort(i * Short.BYTES, (short) (left - 1));
+
+			int hits = Long.bitCount(pickLow.getLong(i * Long.BYTES) & packedLow)
+					+ Integer.bitCount(pickHigh.getShort(i * Short.BYTES) & packedHigh);
+			int prize = prizes[spots.get(i) * stride + hits];
+			if (prize > 0) {
+				long won = (long) bet.getInt(i * Integer.BYTES) * prize;
+				paid += won;
+				if (payee != null) {
+					payee.pay(owner.getLong(i * Long.BYTES), i, hits, won);
+				}
+			}
+		}
+		return paid;
+	}
+
+	//drops every finished ticket and slides the open ones down (keeps their order)
+	//ticket indexes change, returns how many were removed
+	public int compact() {
+		int live = 0;
+		for (int i = 0; i < size; i++) {
+			if (drawingsRemaining.getShort(i * Short.BYTES) == 0) {
+				continue;
+			}
+			if (live != i) {
+				pickLow.putLong(live * Long.BYTES, pickLow.getLong(i * Long.BYTES));
+				pickHigh.putShort(live * Short.BYTES, pickHigh.getShort(i * Short.BYTES));
+				spots.put(live, spots.get(i));
+				bet.putInt(live * Integer.BYTES, bet.getInt(i * Integer.BYTES));
+				drawingsRemaining.putShort(live * Short.BYTES, drawingsRemaining.getShort(i * Short.BYTES));
+				owner.putLong(live * Long.BYTES, owner.getLong(i * Long.BYTES));
+			}
+			live++;
+		}
+		int removed = size - live;
+		size = live;
+		return removed;
+	}
+
+	//removes every ticket
+	public void clear() {
+		size = 0;
+	}
+
+	//getters
+
+	public int size() {
+		return size;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public boolean isOffHeap() {
+		return offHeap;
+	}
+
+	public GameConfig getConfig() {
+		return config;
+	}
+
+	//bytes held by the columns (whether or not they are in use)
+	public long getMemoryBytes() {
+		return (long) capacity * BYTES_PER_TICKET;
+	}
+
+	//the pick mask unpacked back to bit n = number n
+	public long getPickLow(int ticket) {
+		return pickLow.getLong(check(ticket) * Long.BYTES) << 1;
+	}
+
+	public long getPickHigh(int ticket) {
+		long packed = pickLow.getLong(check(ticket) * Long.BYTES);
+		return (packed >>> 63) | ((pickHigh.getShort(ticket * Short.BYTES) & 0xFFFFL) << 1);
+	}
+
+	public int getSpots(int ticket) {
+		return spots.get(check(ticket));
+	}
+
+	public int getBet(int ticket) {
+		return bet.getInt(check(ticket) * Integer.BYTES);
+	}
+
+	public int getDrawingsRemaining(int ticket) {
+		return drawingsRemaining.getShort(check(ticket) * Short.BYTES);
+	}
+
+	public long getOwner(int ticket) {
+		return owner.getLong(check(ticket) * Long.BYTES);
+	}
+
+	private int check(int ticket) {
+		if (ticket < 0 || ticket >= size) {
+			throw new IndexOutOfBoundsException("no ticket " + ticket + " in a store of " + size);
+		}
+		return ticket;
+	}
+}
@@ -0,0 +1,125 @@
+package keno;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//player's money, kept in cents in an atomic long so it can be settled from any thread without locks
+public class Wallet {
+	private final AtomicLong balanceCents;
+	private final HouseLedger ledger;
+
+	//ids that have already been paid, so a retried credit is not paid twice
+	//every id up to paidThrough counts as paid, the set only holds paid ids above it
+	//the owner raises the mark once a drawing is settled, so the set stays tiny instead of growing forever
+	private final AtomicLong paidThrough = new AtomicLong(Long.MIN_VALUE);
+	private final Set<Long> creditedIds = ConcurrentHashMap.newKeySet();
+
+	//constructor
+	public Wallet(long startingCents) {
+		this(startingCents, HouseLedger.shared());
+	}
+
+	public Wallet(long startingCents, HouseLedger ledger) {
+		if (startingCents < 0) {
+			throw new IllegalArgumentException("Wallet cannot start with a negative balance");
+		}
+		this.balanceCents = new AtomicLong(startingCents);
+		this.ledger = ledger;
+	}
+
+	//takes the amount out if there is enough, returns false (and changes nothing) if not
+	public boolean debit(long cents) {
+		if (cents <= 0) {
+			return false;
+		}
+		long current;
+		do {
+			current = balanceCents.get();
+			if (current < cents) {
+				return false;
+			}
+		} while (!balanceCents.compareAndSet(current, current - cents));
+
+		ledger.recordWager(cents);
+		return true;
+	}
+
+	//adds money with no id (e.g. topping the wallet up)
+	public void credit(long cents) {
+		if (cents < 0) {
+			throw new IllegalArgumentException("Cannot credit a negative amount");
+		}
+		balanceCents.addAndGet(cents);
+	}
+
+	//pays out winnings for a ticket/draw id, only the first call for an id is applied
+	public boolean credit(long id, long cents) {
+		if (cents < 0) {
+			throw new IllegalArgumentException("Cannot credit a negative amount");
+		}
+		if (id <= paidThrough.get() || !creditedIds.add(id)) {
+			return false;
+		}
+		//the mark may have passed this id between the check and the add, its removeIf could already have run
+		//so the add would outlive it, the mark says the id is paid so back out instead of paying it again
+		if (id <= paidThrough.get()) {
+			creditedIds.remove(id);
+			return false;
+		}
+		pay(cents);
+		return true;
+	}
+
+	//gives back part of a stake that was debited but not played, the ledger takes it off the wagers
+	public void refund(long cents) {
+		if (cents < 0) {
+			throw new IllegalArgumentException("Cannot refund a negative amount");
+		}
+		balanceCents.addAndGet(cents);
+		ledger.recordRefund(cents);
+	}
+
+	//pays out winnings that have no id, still counted as a payout by the ledger
+	public void pay(long cents) {
+		if (cents < 0) {
+			throw new IllegalArgumentException("Cannot credit a negative amount");
+		}
+		balanceCents.addAndGet(cents);
+		ledger.recordPayout(cents);
+	}
+
+	//marks every id up to this one as paid (e.g. the last settled or journaled drawing) and forgets
+	//the ids it covers, a later credit for any of them is ignored
+	public void markPaidThrough(long id) {
+		long mark;
+		do {
+			mark = paidThrough.get();
+			if (id <= mark) {
+				return;
+			}
+		} while (!paidThrough.compareAndSet(mark, id));
+		if (!creditedIds.isEmpty()) {
+			creditedIds.removeIf(paid -> paid <= id);
+		}
+	}
+
+	//true if this id has already been paid
+	public boolean isCredited(long id) {
+		return id <= paidThrough.get() || creditedIds.contains(id);
+	}
+
+	//highest id below which everything counts as paid (Long.MIN_VALUE until something is marked)
+	public long getPaidThrough() {
+		return paidThrough.get();
+	}
+
+	public long getBalanceCents() {
+		return balanceCents.get();
+	}
+
+	public HouseLedger getLedger() {
+		return ledger;
+	}
+}
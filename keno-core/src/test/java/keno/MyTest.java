@@ -0,0 +1,1187 @@
+package keno;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.BeforeEach;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import javax.management.ObjectName;
+
+
+class MyTest {
+	
+	private Player player;
+	private Drawing drawing;
+	private Keno_Game kenoGame;
+	
+	@BeforeEach
+	public void init() {
+		player = new Player(100);
+		drawing = new Drawing();
+		kenoGame = new Keno_Game(100);
+	}
+	
+	
+	@Test //1
+	@DisplayName("Player should start with correct Balance of $100")
+	public void testInitialBalance() {
+		assertEquals(100, player.getBalance());
+	}
+	
+	@Test //2
+	@DisplayName("Player can place valid bet with balance")
+	public void testWager() {
+		boolean wagerPlaced = player.placeBet(80);
+		assertTrue(wagerPlaced, "Should have balance to place $80");
+		assertEquals(20, player.getBalance(), "Balance after $80 wager");
+		
+		boolean wagerPlaced2 = player.placeBet(100);
+		assertFalse(wagerPlaced2, "No longer has balance to make this wager");
+	}
+	
+	@Test //3
+	@DisplayName("Player can select numbers within range")
+	public void testSelectNumbers() {
+		List<Integer> selectedNumbers = Arrays.asList(5, 10, 15, 20);
+		boolean result = player.selectNumbers(selectedNumbers);
+		
+		assertTrue(result, "Acceptable bounds for player to choose from");	
+	}
+	
+	@Test //4
+	@DisplayName("Player cannot select numbers because they're out of range")
+	public void testFailedSelectedNumbers() {
+		List<Integer> failingNumbers = Arrays.asList(1, 3, 100, 420);
+		boolean failedResult = player.selectNumbers(failingNumbers);
+		
+		assertFalse(failedResult, "Exceeds bounds for amount to choose from");
+	}
+	
+	@Test //8
+	@DisplayName("Player cannot select too many numbers")
+	public void testSelectedTooMany() {
+		List<Integer> failingNumbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+		boolean failedResult = player.selectNumbers(failingNumbers);
+		
+		assertFalse(failedResult, "Exceeds bounds for amount to choose from");
+	}
+	
+	@Test //5
+	@DisplayName("Player can successfully use Quick Pick")
+	public void testQuickPick() {
+		player.quickPick(4);
+		
+		List<Integer> selectedNumbers = player.getSelectedNumbers();
+		
+		assertEquals(4, selectedNumbers.size(), "quick pick should have generated 5 numbers");
+		
+		for(int n : selectedNumbers) {
+			assertTrue(n >= 1 && n <= 80, 
+				"quick pick should have generated numbers within keno range");
+			}
+	}
+	
+	@Test //11
+	@DisplayName("QuickPick generated unique numbers")
+	public void testQuickPickUniqueness() {
+		player.quickPick(8);
+		
+		List<Integer> generatedNumbers = player.getSelectedNumbers();
+
+		Set<Integer> uniqueNumbers = new HashSet<>(generatedNumbers);
+		assertEquals(8, uniqueNumbers.size(), "Should have generated 20 unique numbers");	
+	}
+	
+
+	@Test //6
+	@DisplayName("Player's winnings are successfully added to balance")
+	public void testAddWinnings() {
+		kenoGame.startGame(4,  4);
+		
+		assertTrue(kenoGame.getTotalWinnings() >= 0, "Winnings should have been added");
+	}
+	
+	@Test //7
+	@DisplayName("Player's winnings are successfully added to balance")
+	public void testAddWinningsFromPayout() {
+		player.awardWinnings(50);
+		
+		assertEquals(150, player.getBalance(), "Balance should have accumulated");
+	}
+
+	@Test //9
+	@DisplayName("Game successfully draws 20 numbers")
+	public void testGenerate20Nums() {
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+		drawing.generateNumbers(100); }, "Should throw because of too many numbers");
+		drawing.generateNumbers(20);
+		
+		List<Integer> generatedNumbers = drawing.getWinningNumbers();
+		
+		assertEquals(20, generatedNumbers.size(), "Game should have generated 20 numbers");
+	}
+	
+	@Test //10
+	@DisplayName("Game successfully draws unique numbers")
+	public void testUniqueGenerated() {
+		drawing.generateNumbers(20);
+		
+		List<Integer> generatedNumbers = drawing.getWinningNumbers();
+		
+		Set<Integer> uniqueNumbers = new HashSet<>(generatedNumbers);
+		assertEquals(20, uniqueNumbers.size(), "Should have generated 20 unique numbers");	
+	}
+	
+	@Test //12
+	@DisplayName("Game generated numbers between 1-80")
+	public void testGenerateInRange() {
+		drawing.generateNumbers(20);
+		
+		List<Integer> generatedNumbers = drawing.getWinningNumbers();
+		
+		for(int num : generatedNumbers) {
+			assertTrue(num >= 1 && num <= 80, "Number should be within range");
+			}
+	}
+	
+	@Test //13
+	@DisplayName("Game finds matches")
+	public void testDrawingFindsMatches() {
+		drawing.generateNumbers(20);
+		
+		List<Integer> winningNumbers = drawing.getWinningNumbers();
+		
+		List<Integer> selectedNumbers = Arrays.asList(winningNumbers.get(0), 
+				winningNumbers.get(1), winningNumbers.get(2), 0, 101, 82);
+		
+		List<Integer> matches = drawing.findMatches(selectedNumbers);
+		
+		assertNotNull(matches, "matches list should be populated now");
+		assertEquals(3, matches.size(), "should have found three matching numbers");
+		
+		for(int match : matches) {
+			assertTrue(winningNumbers.contains(match), match + "should be in player numbers");
+		}
+	}
+	
+	@Test //14
+	@DisplayName("Game didn't find matches")
+	public void testDrawingFindsNoMatches() {
+		drawing.generateNumbers(20);
+		
+		List<Integer> winningNumbers = drawing.getWinningNumbers();
+		
+		List<Integer> selectedNumbers = Arrays.asList(81, 82, 100, 204, 0);
+		
+		List<Integer> matches = drawing.findMatches(selectedNumbers);
+		
+		assertNotNull(matches, "matches list should be null");
+		assertEquals(0, matches.size(), "should have found 0 matching numbers");
+		assertTrue(matches.isEmpty(), "Should have found no matches");
+	}
+	
+	@Test //15
+	@DisplayName("Game found a perfect match")
+	public void testDrawingFindsAllAsMatches() {
+		drawing.generateNumbers(20);
+		
+		List<Integer> winningNumbers = drawing.getWinningNumbers();
+		
+		List<Integer> selectedNumbers = Arrays.asList(winningNumbers.get(0),
+				winningNumbers.get(1), winningNumbers.get(2), winningNumbers.get(3),
+				winningNumbers.get(4));
+		
+		List<Integer> matches = drawing.findMatches(selectedNumbers);
+		
+		assertNotNull(matches, "matches list should be populated now");
+		assertEquals(5, matches.size(), "should have found all five matching numbers");
+		
+		for(int match : matches) {
+			assertTrue(winningNumbers.contains(match), match + "should be in player numbers");
+		}
+	}
+	
+	@Test //16
+	@DisplayName("1 spot game returns correct payout for 1 match")
+	public void test1SpotGame() {
+		Payout payout = new Payout(1);
+		
+		assertEquals(2, payout.getPayout(1), "1 spot game with 1 match should win $2");
+		
+		assertEquals(0, payout.getPayout(0), "1 spot game with 0 matches should win $0");
+	}
+	
+	@Test //17
+	@DisplayName("4 spot game returns correct payout for 2, 3, 4 matches")
+	public void test4SpotGame() {
+		Payout payout = new Payout(4);
+		
+		assertEquals(1, payout.getPayout(2), "4 spot game with 2 match should win $1");
+		assertEquals(5, payout.getPayout(3), "4 spot game with 3 match should win $5");
+		assertEquals(75, payout.getPayout(4), "4 spot game with 4 matches should win $75");
+		
+		assertEquals(0, payout.getPayout(0), "4 spot game with 0 matches should win $0");
+		assertEquals(0, payout.getPayout(1), "4 spot game with 1 match should win $0");
+
+	}
+	
+	@Test //18
+	@DisplayName("8 spot game returns correct payout for 4, 5, 6, 7, 8 matches")
+	public void test8SpotGame() {
+		Payout payout = new Payout(8);
+		
+		assertEquals(2, payout.getPayout(4), "8 spot game with 4 matches should win $2");
+		assertEquals(12, payout.getPayout(5), "8 spot game with 5 matches should win $12");
+		assertEquals(50, payout.getPayout(6), "8 spot game with 6 matches should win $50");
+		assertEquals(750, payout.getPayout(7), "8 spot game with 7 matches should win $750");
+		assertEquals(10000, payout.getPayout(8), "8 spot game with 8 matches should win $10000");
+		
+		assertEquals(0, payout.getPayout(0), "8 spot game with 0 matches should win $0");
+		assertEquals(0, payout.getPayout(1), "8 spot game with 1 match should win $0");
+		assertEquals(0, payout.getPayout(2), "8 spot game with 2 match should win $0");
+		assertEquals(0, payout.getPayout(3), "8 spot game with 2 match should win $0");
+
+
+
+	}
+	
+	@Test //19
+	@DisplayName("10 spot game returns correct payout for 0, 5, 6, 7, 8, 9, 10 matches")
+	public void test10SpotGame() {
+		Payout payout = new Payout(10);
+		
+		assertEquals(5, payout.getPayout(0), "10 spot game with 0 matches should win $0");
+		assertEquals(2, payout.getPayout(5), "10 spot game with 1 match should win $2");
+		assertEquals(15, payout.getPayout(6), "10 spot game with 0 matches should win $0");
+		assertEquals(40, payout.getPayout(7), "10 spot game with 0 matches should win $0");
+		assertEquals(450, payout.getPayout(8), "10 spot game with 0 matches should win $0");
+		assertEquals(4250, payout.getPayout(9), "10 spot game with 0 matches should win $0");
+		assertEquals(100000, payout.getPayout(10), "10 spot game with 0 matches should win $0");
+		
+		assertEquals(0, payout.getPayout(1), "10 spot game with 1 match should win $0");
+		assertEquals(0, payout.getPayout(2), "10 spot game with 2 matches should win $0");
+		assertEquals(0, payout.getPayout(4), "10 spot game with 4 matches should win $0");
+	}
+	
+	@Test //20
+	@DisplayName("A spot game that is not 1, 4, 8, or 10 is invalid")
+	public void testInvalidSpotGames() {
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			new Payout(0); }, "Should throw invalid # spots");
+		
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			new Payout(5); }, "Should throw invalid # spots");
+		
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			new Payout(11); }, "Should throw invalid # spots");
+	}
+	
+	@Test //21
+	@DisplayName("Game starts")
+	public void testStartingGame() {
+		kenoGame.startGame(1, 4 );
+		
+		assertTrue(kenoGame.isGameActive(), "Game flag Game Active should be set to true");
+		assertEquals(4, kenoGame.getTotalDrawings(), "game should have four drawings" );
+		assertEquals(1, kenoGame.getCurrentDrawingNumber(), "game should start on first drawing");
+		assertEquals(0, kenoGame.getTotalWinnings(), "game should not have winnings from beginning");
+	}
+	
+	@Test //22
+	@DisplayName("Game should process a drawing correctly")
+	public void testDrawing() {
+		kenoGame.startGame(10, 1);
+		
+		int initialBalance = kenoGame.getPlayer().getBalance();
+
+		List<Integer> selectedNumbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		
+		boolean result = kenoGame.processDrawing(selectedNumbers, initialBalance);
+		
+		assertTrue(result, "drawing should process sucessfully");
+		assertTrue(kenoGame.getTotalWinnings() >=0, "Game should have accrued balance");
+		assertTrue(kenoGame.getCurrentDrawingWinnings() >= 0, "game should have accrued balance for first particular game");
+		
+	}
+	
+	@Test //23
+	@DisplayName("Game should process multiple drawings correctly")
+	public void testMultipleDrawing() {
+		kenoGame.startGame(10, 4);
+		
+		int initialBalance = kenoGame.getPlayer().getBalance();
+
+		List<Integer> selectedNumbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		
+		boolean result = kenoGame.processDrawing(selectedNumbers, initialBalance);
+		
+		assertTrue(result, "drawing should process sucessfully");
+		assertTrue(kenoGame.getTotalWinnings() >=0, "Game should have accrued balance");
+		assertTrue(kenoGame.getCurrentDrawingWinnings() >= 0, "game should have accrued balance for first particular game");
+		
+	}
+	
+	@Test //24
+	@DisplayName("Game should process the betting correctly")
+	public void testBet() {
+		kenoGame.startGame(10, 1);
+	    int initialBalance = kenoGame.getPlayer().getBalance();
+
+	    List<Integer> selectedNumbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+	    
+	    boolean result = kenoGame.processDrawing(selectedNumbers, 50); 
+	    
+	    assertTrue(result, "Drawing should process successfully");
+
+	    int finalBalance = kenoGame.getPlayer().getBalance();
+	    int balanceChange = finalBalance - initialBalance;
+	    
+	    int expectedChange = kenoGame.getCurrentDrawingWinnings() - 50;
+	    assertEquals(expectedChange, balanceChange, "Balance change should equal winnings minus bet");
+	    
+	    assertTrue(kenoGame.getTotalWinnings() >= 0, "Total winnings should not be what we started with");
+	    assertTrue(kenoGame.getCurrentDrawingWinnings() >= 0, "Current drawing winnings should have increased");
+	}
+	
+	@Test //25
+	@DisplayName("Game should reset to initial state")
+	public void testReset() {
+		kenoGame.startGame(10, 4);
+		
+		List<Integer> selectedNumbers = Arrays.asList(10, 20, 30, 40, 50, 60, 70, 80, 79, 78);
+		
+		kenoGame.processDrawing(selectedNumbers, 10);
+		
+	    assertEquals(4, kenoGame.getTotalDrawings(), "Should have four drawings to process");
+	    assertTrue(kenoGame.getTotalWinnings() >= 0, "Total winnings should not be what we started with");
+	    assertTrue(kenoGame.getCurrentDrawingWinnings() >= 0, "Current drawing winnings should have increased");
+	    
+	    kenoGame.resetGame(100);
+	    
+	    assertEquals(1, kenoGame.getTotalDrawings(), "Should have 1"
+	    		+ "drawings to process at very beginning before user has chosen (default)");
+	    assertEquals(0, kenoGame.getTotalWinnings(), "Should have 0 "
+	    		+ "winnings at very beginning before user has chosen (default)");
+	    assertEquals(100, kenoGame.getPlayer().getBalance(), "Should have 100"
+	    		+ "winnings at very beginning before user has chosen (default)");    
+	    
+	}
+	
+	@Test //26
+	@DisplayName("Draw mask matches the winning numbers list")
+	public void testDrawingMask() {
+		drawing.generateNumbers(20);
+		
+		List<Integer> winningNumbers = drawing.getWinningNumbers();
+		
+		assertEquals(20, Long.bitCount(drawing.getWinningLow()) + Long.bitCount(drawing.getWinningHigh()),
+				"mask should hold 20 numbers");
+		assertEquals(drawing.getWinningLow(), Drawing.lowBits(winningNumbers), "low word should match list");
+		assertEquals(drawing.getWinningHigh(), Drawing.highBits(winningNumbers), "high word should match list");
+		
+		List<Integer> selectedNumbers = Arrays.asList(winningNumbers.get(0), winningNumbers.get(19), 0, 81);
+		assertEquals(2, drawing.getMatchCount(selectedNumbers), "popcount should find two matches");
+	}
+	
+	@Test //27
+	@DisplayName("Seeded drawings repeat the same draw")
+	public void testSeededDrawing() {
+		Drawing first = new Drawing(new SplittableRandom(42));
+		Drawing second = new Drawing(new SplittableRandom(42));
+		
+		for (int i = 0; i < 100; i++) {
+			first.generateNumbers(20);
+			second.generateNumbers(20);
+			
+			assertEquals(first.getWinningNumbers(), second.getWinningNumbers(), "same seed should give same draw");
+			assertEquals(20, first.getWinningNumbers().size(), "Game should have generated 20 numbers");
+		}
+	}
+	
+	@Test //28
+	@DisplayName("Paytables are shared and match the spot game")
+	public void testSharedPaytables() {
+		assertTrue(Payout.forSpots(8) == Payout.forSpots(8), "should reuse the same 8 spot paytable");
+		
+		player.quickPick(4);
+		assertTrue(player.gePayout() == Payout.forSpots(4), "quick pick should use the shared 4 spot paytable");
+		
+		assertEquals(100000, Payout.forSpots(10).getPayout(10), "10 spot game with 10 matches should win $100000");
+		assertEquals(0, Payout.forSpots(4).getPayout(11), "more matches than spots should win $0");
+		
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			Payout.forSpots(5); }, "Should throw invalid # spots");
+	}
+	
+	@Test //29
+	@DisplayName("Computed odds match the published prize chart")
+	public void testOddsEngine() {
+		for (int spots = 1; spots <= 10; spots++) {
+			double total = 0;
+			for (int m = 0; m <= spots; m++) {
+				total += KenoOdds.matchProbability(spots, m);
+			}
+			assertEquals(1.0, total, 1e-12, "match probabilities should add up to 1");
+		}
+		
+		assertEquals(0.25, KenoOdds.matchProbability(1, 1), 1e-12, "1 spot game hits 20 out of 80");
+		
+		assertEquals(9.05, new KenoOdds(Payout.forSpots(10)).getOverallOdds(), 0.005, "10 spot odds");
+		assertEquals(9.77, new KenoOdds(Payout.forSpots(8)).getOverallOdds(), 0.005, "8 spot odds");
+		assertEquals(3.86, new KenoOdds(Payout.forSpots(4)).getOverallOdds(), 0.005, "4 spot odds");
+		assertEquals(4.00, new KenoOdds(Payout.forSpots(1)).getOverallOdds(), 0.005, "1 spot odds");
+		
+		KenoOdds oneSpot = new KenoOdds(Payout.forSpots(1));
+		assertEquals(0.5, oneSpot.getExpectedReturn(), 1e-12, "1 spot game returns $2 a quarter of the time");
+		assertEquals(0.75, oneSpot.getVariance(), 1e-12, "1 spot variance");
+		assertEquals(0, oneSpot.getTierProbability(0), 1e-12, "0 matches doesn't pay on a 1 spot game");
+	}
+	
+	@Test //30
+	@DisplayName("Simulator gives the same result for the same seed")
+	public void testSimulatorSeeded() {
+		KenoSimulator simulator = new KenoSimulator(4, 2, 3, 20000, 99);
+		
+		KenoSimulator.Result first = simulator.run(new ForkJoinPool(1));
+		KenoSimulator.Result second = simulator.run(new ForkJoinPool(4));
+		
+		assertEquals(60000, first.getDraws(), "every round should play every drawing");
+		assertEquals(120000, first.getTotalWagered(), "every drawing should wager $2");
+		for (int m = 0; m <= 4; m++) {
+			assertEquals(first.getMatchCount(m), second.getMatchCount(m), "same seed should give same histogram");
+		}
+		assertEquals(first.getTotalPaid(), second.getTotalPaid(), "same seed should pay the same");
+		assertTrue(Math.abs(first.getReturnToPlayer() - first.getExactReturnToPlayer())
+				<= 2 * first.getConfidenceHalfWidth(), "simulated RTP should be near the exact RTP");
+	}
+	
+	@Test //31
+	@DisplayName("Round engine settles a batch of tickets against one draw")
+	public void testRoundEngine() {
+		drawing.generateNumbers(20);
+		List<Integer> winningNumbers = drawing.getWinningNumbers();
+		
+		TicketBatch batch = new TicketBatch(2);
+		int fourSpot = batch.add(winningNumbers.subList(0, 4), 3, 1);
+		int oneSpot = batch.add(Arrays.asList(winningNumbers.get(0)), 5, 2);
+		for (int i = 0; i < 50000; i++) {
+			batch.add(winningNumbers.subList(0, 8), 1, 1);
+		}
+		
+		long paid = new RoundEngine().settle(drawing, batch);
+		
+		assertEquals(4, batch.getMatches(fourSpot), "4 spot ticket should match all 4");
+		assertEquals(225, batch.getWinnings(fourSpot), "4 of 4 pays 75 on a $3 bet");
+		assertEquals(10, batch.getWinnings(oneSpot), "1 of 1 pays 2 on a $5 bet");
+		assertEquals(1, batch.getDrawingsRemaining(oneSpot), "one drawing should be left");
+		assertEquals(0, batch.getDrawingsRemaining(fourSpot), "no drawings should be left");
+		assertEquals(225 + 10 + 50000L * 10000, paid, "total should add up every ticket");
+		
+		assertEquals(10, new RoundEngine().settle(drawing, batch), "only the 1 spot ticket plays again");
+	}
+	
+	@Test //32
+	@DisplayName("Wallet never overspends and pays each id once")
+	public void testWallet() throws InterruptedException {
+		HouseLedger ledger = new HouseLedger();
+		Wallet wallet = new Wallet(1000, ledger);
+		
+		Thread[] threads = new Thread[8];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 1000; i++) {
+					wallet.debit(7);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		
+		assertEquals(1000 % 7, wallet.getBalanceCents(), "wallet should stop at the last full bet");
+		assertEquals(1000 / 7, ledger.getBetCount(), "only bets that fit should be taken");
+		assertFalse(wallet.debit(7), "debit should fail on insufficient funds");
+		
+		assertTrue(wallet.credit(1L, 500), "first credit for an id should pay");
+		assertFalse(wallet.credit(1L, 500), "second credit for the same id should not pay");
+		assertEquals(1000 % 7 + 500, wallet.getBalanceCents(), "balance should only include one credit");
+		assertEquals(1000 - 1000 % 7 - 500, ledger.getHoldCents(), "house keeps wagers minus payouts");
+		
+		//out of order ids are fine until the mark passes them, after that they're settled for good
+		assertTrue(wallet.credit(5L, 1));
+		assertTrue(wallet.credit(3L, 1));
+		wallet.markPaidThrough(4L);
+		assertTrue(wallet.isCredited(2L), "ids under the mark count as paid");
+		assertFalse(wallet.credit(2L, 1), "ids under the mark can't be paid");
+		assertFalse(wallet.credit(5L, 1), "ids above the mark are still remembered");
+		assertTrue(wallet.credit(6L, 1));
+		wallet.markPaidThrough(1L);
+		assertEquals(4L, wallet.getPaidThrough(), "the mark never goes back");
+		
+		//payouts without an id still reach the ledger
+		long paid = ledger.getPaidCents();
+		wallet.pay(25);
+		assertEquals(paid + 25, ledger.getPaidCents());
+	}
+	
+	@Test //33
+	@DisplayName("Journal rebuilds the balance after a restart")
+	public void testJournalReplay() throws IOException {
+		Path file = Files.createTempFile("keno", ".journal");
+		try {
+			int balanceAfter;
+			List<Integer> lastDraw;
+			try (GameJournal journal = new GameJournal(file, 2)) {
+				Keno_Game game = new Keno_Game(100, journal);
+				for (int i = 0; i < 3; i++) {
+					game.startGame(4, 1);
+					assertTrue(game.processDrawing(Arrays.asList(5, 10, 15, 20), 2), "drawing should process");
+				}
+				assertEquals(3, journal.size(), "every drawing should be journaled");
+				balanceAfter = game.getPlayer().getBalance();
+				lastDraw = Drawing.toList(game.getDrawing().getWinningLow(), game.getDrawing().getWinningHigh());
+			}
+			
+			try (GameJournal journal = new GameJournal(file)) {
+				assertEquals(3, journal.committedSize(), "closing should commit every drawing");
+				
+				Keno_Game restored = new Keno_Game(100, journal);
+				assertEquals(balanceAfter, restored.getPlayer().getBalance(), "balance should come back from the journal");
+				assertEquals(lastDraw, restored.getDrawing().getWinningNumbers(), "last draw should come back");
+				assertEquals(3, restored.getDrawId(), "draw ids should carry on");
+				assertFalse(restored.getPlayer().getWallet().credit(3L, 100), "journaled drawings can't be paid again");
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test //34
+	@DisplayName("Grid selection tracks picks as a mask")
+	public void testGridSelection() {
+		GridSelection selection = new GridSelection();
+		
+		assertTrue(selection.toggle(1), "1 should now be selected");
+		assertTrue(selection.toggle(80), "80 should now be selected");
+		assertTrue(selection.toggle(64), "64 should now be selected");
+		assertFalse(selection.toggle(1), "toggling 1 again should deselect it");
+		
+		assertEquals(2, selection.count(), "two numbers should be selected");
+		assertEquals(Arrays.asList(64, 80), selection.toList(), "selection should list 64 and 80");
+		
+		selection.setAll(Arrays.asList(5, 10, 15, 20));
+		assertTrue(selection.isSelected(15) && !selection.isSelected(80), "setAll should replace the picks");
+		
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			selection.toggle(81); }, "Should throw out of range");
+	}
+	
+	@Test //35
+	@DisplayName("Scheduler hands the same draw to every subscriber")
+	public void testDrawScheduler() {
+		try (DrawScheduler scheduler = new DrawScheduler(new DrawSampler(new SplittableRandom(5)))) {
+			List<DrawResult> seen = Collections.synchronizedList(new ArrayList<>());
+			for (int i = 0; i < 5000; i++) {
+				scheduler.subscribe(seen::add);
+			}
+			
+			Keno_Game game = new Keno_Game(100);
+			game.startGame(4, 1);
+			List<Integer> picks = Arrays.asList(5, 10, 15, 20);
+			scheduler.subscribe(draw -> game.processDrawing(picks, 1, draw));
+			
+			TicketBatch batch = new TicketBatch();
+			batch.add(picks, 1, 1);
+			scheduler.subscribe(draw -> new RoundEngine().settle(draw.getLow(), draw.getHigh(), batch));
+			
+			DrawResult draw = scheduler.tick();
+			
+			assertEquals(5000, seen.size(), "every subscriber should get the draw");
+			for (DrawResult d : seen) {
+				assertTrue(d == draw, "subscribers should share one draw instance");
+			}
+			assertEquals(draw.getNumbers(), game.getDrawing().getWinningNumbers(), "game should play the shared draw");
+			assertEquals(game.getCurrentDrawingWinnings(), batch.getWinnings(0), "batch and game should agree");
+			assertEquals(1, scheduler.getTickCount(), "one tick should be recorded");
+			assertTrue(scheduler.getLastLatencyNanos() > 0, "tick latency should be recorded");
+		}
+	}
+	
+	@Test //36
+	@DisplayName("Draw sources replay and commit-reveal draws verify")
+	public void testDrawSources() {
+		SeededDrawSource seeded = new SeededDrawSource(42);
+		Drawing first = new Drawing(seeded);
+		List<List<Integer>> draws = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			first.generateNumbers(20);
+			draws.add(first.getWinningNumbers());
+		}
+		seeded.rewind();
+		Drawing replay = new Drawing(seeded);
+		for (int i = 0; i < 5; i++) {
+			replay.generateNumbers(20);
+			assertEquals(draws.get(i), replay.getWinningNumbers(), "seeded draws should replay");
+		}
+		
+		CommitRevealDrawSource chain = new CommitRevealDrawSource("server secret".getBytes(), 3);
+		byte[] previous = chain.getCommitment();
+		Drawing audited = new Drawing(chain);
+		for (int i = 0; i < 3; i++) {
+			audited.generateNumbers(20);
+			byte[] revealed = chain.getRevealedSeed(i);
+			assertTrue(CommitRevealDrawSource.verify(revealed, previous), "reveal should hash to the previous link");
+			DrawSampler again = CommitRevealDrawSource.rederive(revealed, 20);
+			assertEquals(audited.getWinningLow(), again.getLow(), "draw should re-derive from the reveal");
+			assertEquals(audited.getWinningHigh(), again.getHigh(), "draw should re-derive from the reveal");
+			previous = revealed;
+		}
+		assertFalse(CommitRevealDrawSource.verify(previous, chain.getCommitment()), "wrong link should not verify");
+		
+		assertThrows(IllegalStateException.class, () ->{
+			
+			audited.generateNumbers(20); }, "Should throw once the chain is used up");
+	}
+	
+	@Test //37
+	@DisplayName("Game config loads a variant and every class follows it")
+	public void testGameConfig() throws IOException {
+		Path file = Files.createTempFile("keno", ".properties");
+		try {
+			Files.write(file, Arrays.asList("pool=70", "draw=20", "maxSpots=20",
+					"payout.4=2:1,3:5,4:75", "payout.20=0:10,20:250000"));
+			GameConfig config = GameConfig.load(file);
+			assertEquals(70, config.getPoolSize());
+			assertTrue(config.isMasked(), "70 balls should fit the mask");
+			assertArrayEquals(new int[] {4, 20}, config.getSpotGames());
+			assertEquals(250000, config.getPayout(20).getPayout(20));
+			
+			Keno_Game game = new Keno_Game(100, config);
+			game.startGame(20, 1);
+			List<Integer> picks = new ArrayList<>();
+			for (int i = 51; i <= 70; i++) {
+				picks.add(i);
+			}
+			assertTrue(game.getPlayer().selectNumbers(picks), "20 spots should be allowed");
+			assertFalse(game.getPlayer().selectNumbers(Arrays.asList(71)), "71 is outside a 70 ball pool");
+			assertTrue(game.processDrawing(picks, 1));
+			for (int n : game.getDrawing().getWinningNumbers()) {
+				assertTrue(n >= 1 && n <= 70, "draw should stay in the pool");
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+		
+		GameConfig big = new GameConfig(200, 30, 5, Arrays.asList(new Payout(5, new int[] {5}, new int[] {100})));
+		assertFalse(big.isMasked(), "200 balls should take the slow path");
+		Drawing slow = new Drawing(big);
+		slow.generateNumbers(30);
+		List<Integer> winning = slow.getWinningNumbers();
+		assertEquals(30, winning.size());
+		List<Integer> picks = winning.subList(0, 5);
+		assertEquals(5, slow.getMatchCount(picks));
+		assertEquals(new HashSet<>(picks), new HashSet<>(slow.findMatches(picks)), "matches come back sorted, picks are in draw order");
+		
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			slow.generateNumbers(20); }, "Should throw for the wrong draw size");
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			GameConfig.STANDARD.getPayout(3); }, "Should throw for a spot game with no paytable");
+	}
+	
+	@Test //38
+	@DisplayName("Ticket store settles off-heap tickets and compacts finished ones")
+	public void testTicketStore() {
+		drawing.generateNumbers(20);
+		List<Integer> winningNumbers = drawing.getWinningNumbers();
+		List<Integer> losers = new ArrayList<>();
+		for (int n = 1; n <= 80 && losers.size() < 4; n++) {
+			if (!winningNumbers.contains(n)) {
+				losers.add(n);
+			}
+		}
+		
+		TicketStore store = new TicketStore(2, true);
+		int tenSpot = store.append(7, Arrays.asList(80, 79, 78, 77, 76, 75, 74, 73, 72, 71), 1, 1);
+		assertEquals(Drawing.lowBits(Arrays.asList(71, 72, 73, 74, 75, 76, 77, 78, 79, 80)), store.getPickLow(tenSpot));
+		assertEquals(Drawing.highBits(Arrays.asList(71, 72, 73, 74, 75, 76, 77, 78, 79, 80)), store.getPickHigh(tenSpot));
+		assertEquals(10, store.getSpots(tenSpot));
+		
+		store.append(1, winningNumbers.subList(0, 4), 3, 1);
+		store.append(2, Arrays.asList(winningNumbers.get(0)), 5, 2);
+		for (int i = 0; i < 50000; i++) {
+			store.append(3, losers, 1, 1);
+		}
+		
+		Map<Long, Long> paidTo = new ConcurrentHashMap<>();
+		long paid = new RoundEngine().settle(drawing.getWinningLow(), drawing.getWinningHigh(), store,
+				(owner, ticket, matches, winnings) -> paidTo.merge(owner, winnings, Long::sum));
+		
+		assertEquals(225 + 10 + store.getBet(tenSpot) * (long) Payout.forSpots(10).getPayout(
+				drawing.getMatchCount(Arrays.asList(71, 72, 73, 74, 75, 76, 77, 78, 79, 80))), paid);
+		assertEquals(225L, paidTo.get(1L), "4 of 4 pays 75 on a $3 bet");
+		assertEquals(10L, paidTo.get(2L), "1 of 1 pays 2 on a $5 bet");
+		assertNull(paidTo.get(3L), "tickets that hit nothing are not paid");
+		
+		assertEquals(50002, store.compact(), "every ticket except the 2 drawing one is done");
+		assertEquals(1, store.size());
+		assertEquals(2, store.getOwner(0));
+		assertEquals(1, store.getDrawingsRemaining(0));
+		assertEquals(10, store.settle(drawing.getWinningLow(), drawing.getWinningHigh(), null));
+		
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			store.append(4, Arrays.asList(81), 1, 1); }, "Should throw for a number outside 1-80");
+	}
+	
+	@Test //39
+	@DisplayName("Advance play settles every draw of the card in one call")
+	public void testAdvancePlay() {
+		kenoGame.startGame(4, 20);
+		List<Integer> picks = Arrays.asList(5, 10, 15, 20);
+		
+		assertTrue(kenoGame.processDrawing(picks, 1));
+		assertEquals(2, kenoGame.getCurrentDrawingNumber(), "second drawing should be next");
+		assertEquals(99, kenoGame.getPlayer().getBalance() - kenoGame.getCurrentDrawingWinnings());
+		int balanceBefore = kenoGame.getPlayer().getBalance();
+		
+		assertThrows(IllegalArgumentException.class, () ->{
+			
+			kenoGame.playAdvance(picks, 1, 20); }, "Should throw for more drawings than the card has left");
+		
+		AdvancePlayResult result = kenoGame.playAdvance(picks, 2, 19);
+		assertNotNull(result);
+		assertEquals(19, result.getDraws());
+		assertEquals(38, result.getStake());
+		
+		long total = 0;
+		for (int i = 0; i < result.getDraws(); i++) {
+			assertEquals(20, result.getDrawnNumbers(i).size());
+			assertEquals(result.getDrawLow(i), Drawing.lowBits(result.getDrawnNumbers(i)));
+			assertEquals(result.getDrawHigh(i), Drawing.highBits(result.getDrawnNumbers(i)));
+			int matches = Long.bitCount(result.getDrawLow(i) & Drawing.lowBits(picks))
+					+ Long.bitCount(result.getDrawHigh(i) & Drawing.highBits(picks));
+			assertEquals(matches, result.getMatches(i));
+			assertEquals(2 * Payout.forSpots(4).getPayout(matches), result.getWinnings(i));
+			total += result.getWinnings(i);
+		}
+		assertEquals(total, result.getTotalWinnings());
+		assertEquals(balanceBefore + result.getNet(), (long) kenoGame.getPlayer().getBalance(), "stake and winnings should both land");
+		assertEquals(result.getDrawId(18), kenoGame.getDrawId());
+		assertEquals(kenoGame.getDrawing().getWinningNumbers(), result.getDrawnNumbers(18), "draws keep their draw order");
+		assertFalse(kenoGame.hasMoreDrawings(), "card should be done after all 20 drawings");
+		assertNull(kenoGame.playAdvance(picks, 1, 1), "finished card should not play");
+		
+		Keno_Game poor = new Keno_Game(10);
+		poor.startGame(4, 20);
+		assertNull(poor.playAdvance(picks, 1, 20), "stake over the balance should not play");
+		assertEquals(10, poor.getPlayer().getBalance(), "nothing should be debited");
+		assertTrue(poor.isGameActive());
+	}
+	
+	@Test //40
+	@DisplayName("Stats keep sliding windows, gaps and match histograms")
+	public void testDrawStats() {
+		DrawStats stats = new DrawStats();
+		DrawSampler sampler = new DrawSampler(new SplittableRandom(3));
+		long[] lows = new long[1500];
+		long[] highs = new long[1500];
+		for (int i = 0; i < 1500; i++) {
+			sampler.sample(20);
+			lows[i] = sampler.getLow();
+			highs[i] = sampler.getHigh();
+			stats.record(lows[i], highs[i]);
+		}
+		
+		DrawStats.Snapshot snapshot = stats.snapshot();
+		assertEquals(1500, snapshot.getDraws());
+		assertEquals(100, snapshot.getDraws(DrawStats.Window.LAST_100));
+		for (int n = 1; n <= 80; n++) {
+			int last100 = 0;
+			int last1000 = 0;
+			int all = 0;
+			long gap = -1;
+			for (int i = 0; i < 1500; i++) {
+				boolean drawn = n < 64 ? (lows[i] & (1L << n)) != 0 : (highs[i] & (1L << (n - 64))) != 0;
+				if (drawn) {
+					all++;
+					last1000 += (i >= 500) ? 1 : 0;
+					last100 += (i >= 1400) ? 1 : 0;
+					gap = 1499 - i;
+				}
+			}
+			assertEquals(last100, snapshot.getCount(n, DrawStats.Window.LAST_100), "last 100 count for " + n);
+			assertEquals(last1000, snapshot.getCount(n, DrawStats.Window.LAST_1000), "last 1000 count for " + n);
+			assertEquals(all, snapshot.getCount(n, DrawStats.Window.ALL), "all time count for " + n);
+			assertEquals(gap, snapshot.getGap(n), "gap for " + n);
+		}
+		int hot = snapshot.getHot(1, DrawStats.Window.ALL)[0];
+		int cold = snapshot.getCold(1, DrawStats.Window.ALL)[0];
+		assertTrue(snapshot.getCount(hot, DrawStats.Window.ALL) >= snapshot.getCount(cold, DrawStats.Window.ALL));
+		
+		kenoGame.setStats(stats);
+		kenoGame.startGame(4, 1);
+		kenoGame.processDrawing(Arrays.asList(5, 10, 15, 20), 1);
+		DrawStats.Snapshot after = stats.snapshot();
+		assertEquals(1501, after.getDraws(), "game drawing should be counted");
+		assertEquals(1, Arrays.stream(after.getMatchHistogram(4)).sum(), "ticket result should be counted");
+		assertEquals(1, after.getMatchHistogram(4)[kenoGame.getDrawing().getMatchedNumbers().size()]);
+		assertEquals(1500, snapshot.getDraws(), "old snapshot should not change");
+	}
+	
+	@Test //41
+	@DisplayName("Metrics count drawings, track open cards and record phase latencies")
+	public void testMetrics() throws Exception {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int v = 1; v <= 1000; v++) {
+			histogram.record(v * 1000L);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1_000_000, histogram.getMax());
+		long p50 = histogram.getValueAtPercentile(50);
+		long p99 = histogram.getValueAtPercentile(99);
+		assertTrue(Math.abs(p50 - 500_000) <= 500_000 / 16, "p50 was " + p50);
+		assertTrue(Math.abs(p99 - 990_000) <= 990_000 / 16, "p99 was " + p99);
+		assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+		for (long v : new long[] {0, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+			int bucket = LatencyHistogram.bucket(v);
+			assertTrue(LatencyHistogram.highestValue(bucket) >= v, "bucket for " + v + " ends too low");
+			assertTrue(bucket == 0 || LatencyHistogram.highestValue(bucket - 1) < v, "bucket for " + v + " starts too high");
+		}
+		
+		KenoMetrics metrics = new KenoMetrics();
+		kenoGame.setMetrics(metrics);
+		
+		kenoGame.startGame(4, 3);
+		assertEquals(1, metrics.getOpenTickets());
+		kenoGame.processDrawing(Arrays.asList(5, 10, 15, 20), 2);
+		assertEquals(1, metrics.getDrawings());
+		assertEquals(1, metrics.getSettleLatency().getCount());
+		assertEquals(2L * 75 * 2, metrics.getLiability(), "two drawings left at $2 on a 4 spot ($75 top prize)");
+		assertFalse(kenoGame.processDrawing(Arrays.asList(5, 10, 15, 20), 1_000_000));
+		assertEquals(1, metrics.getRejectedBets());
+		
+		//an open card moves with the game
+		KenoMetrics other = new KenoMetrics();
+		kenoGame.setMetrics(other);
+		assertEquals(0, metrics.getOpenTickets());
+		assertEquals(0, metrics.getLiability());
+		assertEquals(1, other.getOpenTickets());
+		assertEquals(2L * 75 * 2, other.getLiability());
+		kenoGame.setMetrics(metrics);
+		
+		kenoGame.playAdvance(Arrays.asList(5, 10, 15, 20), 1, 2);
+		assertEquals(3, metrics.getDrawings());
+		assertEquals(0, metrics.getOpenTickets(), "finished card should be closed");
+		assertEquals(0, metrics.getLiability(), "finished card owes nothing");
+		
+		metrics.setEnabled(false);
+		kenoGame.startGame(1, 1);
+		kenoGame.processDrawing(Arrays.asList(7), 1);
+		assertEquals(3, metrics.getDrawings(), "disabled metrics should not count");
+		metrics.setEnabled(true);
+		
+		String text = metrics.getPrometheusText();
+		assertTrue(text.contains("# TYPE keno_drawings_total counter\nkeno_drawings_total "), text);
+		assertTrue(text.contains("keno_settle_seconds{quantile=\"0.99\"} "), text);
+		assertThrows(IllegalArgumentException.class, () -> metrics.registerGauge("bad name", () -> 1));
+		
+		//the MBean is the shared instance, registering it twice is a no-op
+		KenoMetrics.shared().registerMBean();
+		KenoMetrics.shared().registerMBean();
+		ObjectName name = new ObjectName("keno:type=Metrics");
+		assertEquals(KenoMetrics.shared().getDrawings(),
+				ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Drawings"));
+	}
+	
+	@Test //42
+	@DisplayName("Winning numbers come back in the order they were drawn")
+	public void testDrawOrder() {
+		Drawing seeded = new Drawing(new SplittableRandom(11));
+		DrawSampler sampler = new DrawSampler(new SplittableRandom(11));
+		assertTrue(seeded.getWinningNumbers().isEmpty(), "nothing drawn yet");
+		for (int round = 0; round < 5; round++) {
+			seeded.generateNumbers(20);
+			sampler.sample(20);
+			List<Integer> numbers = seeded.getWinningNumbers();
+			for (int i = 0; i < 20; i++) {
+				assertEquals(sampler.get(i), numbers.get(i), "number " + i + " of round " + round);
+			}
+			assertEquals(Drawing.lowBits(numbers), seeded.getWinningLow());
+			assertEquals(Drawing.highBits(numbers), seeded.getWinningHigh());
+		}
+		
+		//a draw set from a mask has no order, it comes back ascending
+		seeded.useDraw(seeded.getWinningLow(), seeded.getWinningHigh());
+		List<Integer> sorted = new ArrayList<>(seeded.getWinningNumbers());
+		Collections.sort(sorted);
+		assertEquals(sorted, seeded.getWinningNumbers());
+	}
+	
+	@Test //43
+	@DisplayName("A card the game can't play leaves the game untouched")
+	public void testInvalidCard() {
+		KenoMetrics metrics = new KenoMetrics();
+		kenoGame.setMetrics(metrics);
+		
+		assertThrows(IllegalArgumentException.class, () -> kenoGame.startGame(5, 1), "no 5 spot paytable");
+		assertThrows(IllegalArgumentException.class, () -> kenoGame.startGame(4, 0), "a card needs a drawing");
+		assertFalse(kenoGame.isGameActive(), "game should not start");
+		assertEquals(0, metrics.getOpenTickets(), "no card should be opened");
+		assertFalse(kenoGame.processDrawing(Arrays.asList(1, 2, 3, 4, 5), 10), "nothing to play");
+		assertEquals(100, kenoGame.getPlayer().getBalance(), "no bet should be taken");
+		
+		//a bad card after a good one keeps the good one
+		kenoGame.startGame(10, 2);
+		assertThrows(IllegalArgumentException.class, () -> kenoGame.startGame(5, 1));
+		assertEquals(10, kenoGame.getPayout().getSpots());
+		assertEquals(2, kenoGame.getRemainingDrawings());
+	}
+	
+	@Test //44
+	@DisplayName("A scheduled draw that fails is recorded and the next one still runs")
+	public void testSchedulerFailure() throws InterruptedException {
+		CommitRevealDrawSource chain = new CommitRevealDrawSource(new byte[] {7}, 2);
+		try (DrawScheduler scheduler = new DrawScheduler(chain)) {
+			assertNull(scheduler.getLastTickFailure(), "nothing has failed yet");
+			scheduler.start(1, TimeUnit.MILLISECONDS);
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (scheduler.getTickFailures() < 3 && System.nanoTime() < deadline) {
+				Thread.sleep(1);
+			}
+			assertTrue(scheduler.getTickFailures() >= 3, "the scheduler should keep trying after a failure");
+			assertEquals(2, scheduler.getTickCount(), "only the draws the chain covers are made");
+			assertTrue(scheduler.getLastTickFailure() instanceof IllegalStateException);
+		}
+	}
+	
+	@Test //45
+	@DisplayName("Odds, scheduler, commit-reveal and ticket settlement follow a non standard variant")
+	public void testVariantSettlement() {
+		Payout twentySpot = new Payout(20, new int[] {0, 20}, new int[] {10, 250000});
+		GameConfig config = new GameConfig(70, 20, 20, Arrays.asList(new Payout(4, new int[] {4}, new int[] {75}), twentySpot));
+		
+		double total = 0;
+		for (int m = 0; m <= 20; m++) {
+			total += KenoOdds.matchProbability(config, 20, m);
+		}
+		assertEquals(1.0, total, 1e-9, "match probabilities should add up to 1");
+		assertEquals(20 / 70.0, KenoOdds.matchProbability(config, 1, 1), 1e-12, "1 spot hits 20 out of 70");
+		assertEquals(1 / KenoOdds.choose(70, 20), KenoOdds.matchProbability(config, 20, 20), 1e-30, "all 20 of 20");
+		KenoOdds odds = new KenoOdds(config, twentySpot);
+		assertEquals(KenoOdds.matchProbability(config, 20, 0) * 10 + KenoOdds.matchProbability(config, 20, 20) * 250000,
+				odds.getExpectedReturn(), 1e-12, "RTP of the 20 spot paytable");
+		assertEquals(KenoOdds.matchProbability(1, 1), new KenoOdds(GameConfig.STANDARD, Payout.forSpots(1)).getHitFrequency(), 1e-12);
+		assertThrows(IllegalArgumentException.class, () -> new KenoOdds(twentySpot), "20 spots is over the classic game's max");
+		
+		CommitRevealDrawSource chain = new CommitRevealDrawSource(new byte[] {3}, 1);
+		DrawResult draw;
+		try (DrawScheduler scheduler = new DrawScheduler(config, chain)) {
+			draw = scheduler.tick();
+		}
+		assertEquals(20, draw.getNumbers().size(), "the variant's draw size");
+		for (int n : draw.getNumbers()) {
+			assertTrue(n >= 1 && n <= 70, "draw should stay in the pool");
+		}
+		DrawSampler again = CommitRevealDrawSource.rederive(chain.getRevealedSeed(0), config);
+		assertEquals(draw.getLow(), again.getLow(), "rederived from the same pool");
+		assertEquals(draw.getHigh(), again.getHigh());
+		
+		List<Integer> picks = new ArrayList<>();
+		for (int n = 1; n <= 70 && picks.size() < 20; n++) {
+			if (draw.getMatchCount(Drawing.lowBits(Arrays.asList(n)), Drawing.highBits(Arrays.asList(n))) == 0) {
+				picks.add(n);
+			}
+		}
+		TicketBatch batch = new TicketBatch(config, 4);
+		batch.add(picks, 2, 1);
+		assertThrows(IllegalArgumentException.class, () -> batch.add(Arrays.asList(68, 69, 70, 71), 1, 1), "71 is outside the pool");
+		assertThrows(IllegalArgumentException.class, () -> batch.add(Arrays.asList(1), 1, 1), "no 1 spot paytable");
+		assertEquals(20, new RoundEngine().settle(draw.getLow(), draw.getHigh(), batch), "0 of 20 pays 10 a dollar");
+		assertEquals(0, batch.getMatches(0));
+		
+		TicketStore store = new TicketStore(config, 4, false);
+		store.append(1, picks, 2, 1);
+		assertEquals(20, store.settle(draw.getLow(), draw.getHigh(), null), "store pays on the variant's paytable");
+		assertThrows(IllegalArgumentException.class, () -> new TicketStore(new GameConfig(90, 20, 10,
+				Arrays.asList(Payout.forSpots(4))), 4, false), "picks are packed into 80 bits");
+		
+		Drawing classic = new Drawing();
+		classic.generateNumbers(20);
+		assertThrows(IllegalArgumentException.class, () -> new RoundEngine().settle(classic, batch),
+				"an 80 ball draw can't settle 70 ball tickets");
+	}
+	
+	@Test //46
+	@DisplayName("A journal failure partway through advance play refunds the drawings that didn't play")
+	public void testAdvanceJournalFailure() throws IOException {
+		Path file = Files.createTempFile("keno", ".journal");
+		try {
+			try (GameJournal journal = new GameJournal(file, 0) {
+				private int writes = 0;
+				
+				@Override
+				public synchronized long append(long drawId, long drawLow, long drawHigh, long ticketLow, long ticketHigh,
+						int bet, int matches, int payout, long balanceAfterCents,
+						int cardDrawing, int cardDrawings, int prepaid) throws IOException {
+					if (++writes == 3) {
+						throw new IOException("disk full");
+					}
+					return super.append(drawId, drawLow, drawHigh, ticketLow, ticketHigh, bet, matches, payout,
+							balanceAfterCents, cardDrawing, cardDrawings, prepaid);
+				}
+			}) {
+				Keno_Game game = new Keno_Game(100, journal);
+				List<Integer> picks = Arrays.asList(5, 10, 15, 20);
+				game.startGame(4, 5);
+				assertThrows(UncheckedIOException.class, () -> game.playAdvance(picks, 2, 5));
+				
+				//the third drawing was drawn and paid before its write failed, so it counts as played
+				assertEquals(3, game.getDrawId());
+				assertEquals(4, game.getCurrentDrawingNumber(), "the card should move past the drawings played");
+				assertEquals(2, game.getRemainingDrawings());
+				assertEquals(100 - 3 * 2 + game.getTotalWinnings(), (int) game.getPlayer().getBalance(),
+						"only the 3 drawings played should be paid for");
+				
+				AdvancePlayResult rest = game.playAdvance(picks, 2, 2);
+				assertNotNull(rest, "the refunded drawings can still be played");
+				assertFalse(game.isGameActive());
+				assertEquals(100 - 5 * 2 + game.getTotalWinnings(), (int) game.getPlayer().getBalance());
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test //47
+	@DisplayName("A restart in the middle of a card rebuilds the card and hands back stakes that never played")
+	public void testJournalCardReplay() throws IOException {
+		Path file = Files.createTempFile("keno", ".journal");
+		List<Integer> picks = Arrays.asList(5, 10, 15, 20);
+		try {
+			//the journal "crashes" on the 4th write: 2 single drawings and the 1st of 4 advance drawings get in
+			int winnings;
+			try (GameJournal journal = new GameJournal(file, 0) {
+				private int writes = 0;
+				
+				@Override
+				public synchronized long append(long drawId, long drawLow, long drawHigh, long ticketLow, long ticketHigh,
+						int bet, int matches, int payout, long balanceAfterCents,
+						int cardDrawing, int cardDrawings, int prepaid) throws IOException {
+					if (++writes == 4) {
+						throw new IOException("power cut");
+					}
+					return super.append(drawId, drawLow, drawHigh, ticketLow, ticketHigh, bet, matches, payout,
+							balanceAfterCents, cardDrawing, cardDrawings, prepaid);
+				}
+			}) {
+				Keno_Game game = new Keno_Game(100, journal);
+				game.startGame(4, 6);
+				game.getPlayer().selectNumbers(picks);
+				assertTrue(game.processDrawing(picks, 1));
+				assertTrue(game.processDrawing(picks, 1));
+				assertThrows(UncheckedIOException.class, () -> game.playAdvance(picks, 2, 4));
+			}
+			
+			long[] onDisk = new long[2]; //{balance after the last record, card winnings}
+			try (GameJournal journal = new GameJournal(file)) {
+				assertEquals(2, journal.getVersion());
+				assertEquals(3, journal.committedSize());
+				journal.replay((id, drawLow, drawHigh, ticketLow, ticketHigh, bet, matches, paid, balanceAfter,
+						cardDrawing, cardDrawings, prepaid) -> {
+					assertEquals(id, cardDrawing, "drawing " + id + " of the card");
+					assertEquals(6, cardDrawings);
+					assertEquals(id == 3 ? 3 : 0, prepaid, "3 advance drawings were staked after the first");
+					onDisk[0] = balanceAfter;
+					onDisk[1] += paid;
+				});
+				winnings = (int) onDisk[1];
+				
+				Keno_Game restored = new Keno_Game(100, journal);
+				assertTrue(restored.isGameActive(), "the card should still be open");
+				assertEquals(4, restored.getCurrentDrawingNumber());
+				assertEquals(3, restored.getRemainingDrawings());
+				assertEquals(4, restored.getPayout().getSpots());
+				assertEquals(picks, restored.getPlayer().getSelectedNumbers());
+				assertEquals(winnings, restored.getTotalWinnings());
+				assertEquals(onDisk[0] + 3 * 2 * 100L, restored.getPlayer().getWallet().getBalanceCents(),
+						"the 3 staked drawings that never played are handed back");
+				
+				AdvancePlayResult rest = restored.playAdvance(picks, 2, 3);
+				assertNotNull(rest, "the rest of the card can be played");
+				assertFalse(restored.isGameActive());
+				assertEquals(winnings + rest.getTotalWinnings(), restored.getTotalWinnings());
+			}
+			
+			//a finished card leaves nothing to rebuild
+			try (GameJournal journal = new GameJournal(file)) {
+				assertFalse(new Keno_Game(100, journal).isGameActive());
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test //48
+	@DisplayName("A retried credit racing the paid-through mark never pays twice")
+	public void testWalletRetryRace() throws Exception {
+		HouseLedger ledger = new HouseLedger();
+		Wallet wallet = new Wallet(0, ledger);
+		int rounds = 20000;
+		CyclicBarrier start = new CyclicBarrier(2);
+		
+		//each id is paid once up front, then a retry of it races the owner raising the mark past it
+		Thread retries = new Thread(() -> {
+			try {
+				for (long id = 1; id <= rounds; id++) {
+					start.await();
+					wallet.credit(id, 1);
+				}
+			} catch (InterruptedException | BrokenBarrierException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		retries.start();
+		for (long id = 1; id <= rounds; id++) {
+			assertTrue(wallet.credit(id, 1), "first credit for an id should pay");
+			start.await();
+			wallet.markPaidThrough(id);
+		}
+		retries.join();
+		
+		assertEquals(rounds, wallet.getBalanceCents(), "every id should be paid exactly once");
+		assertEquals(rounds, ledger.getPaidCents(), "the ledger should see one payout per id");
+		for (long id = 1; id <= rounds; id++) {
+			assertFalse(wallet.credit(id, 1), "ids under the mark can't be paid");
+		}
+	}
+}
+	
+
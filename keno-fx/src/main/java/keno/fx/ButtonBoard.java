@@ -0,0 +1,79 @@
+package keno.fx;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.layout.GridPane;
+import javafx.css.PseudoClass;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+//The original board: an 8x10 GridPane of 80 Buttons
+//Kept as the fallback for -Dkeno.board=buttons, a cell's state is one of the :selected, :drawn or :matched
+//pseudo-classes (looks are in keno.css) so a restyle only flips bits, nothing gets re-parsed
+class ButtonBoard extends KenoBoard {
+
+    private static final PseudoClass SELECTED = PseudoClass.getPseudoClass("selected");
+    private static final PseudoClass DRAWN = PseudoClass.getPseudoClass("drawn");
+    private static final PseudoClass MATCHED = PseudoClass.getPseudoClass("matched");
+
+    private final Button[] buttons = new Button[81]; // Indexed by the number on the button (slot 0 unused)
+    private final Text[] stars = new Text[81]; // Made the first time a number is matched, then reused
+    private final GridPane grid = new GridPane();
+
+    ButtonBoard() {
+        grid.setAlignment(Pos.CENTER);
+        grid.setHgap(4);
+        grid.setVgap(4);
+        grid.setPadding(new Insets(10));
+
+        int number = 1;
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 10; col++) {
+                Button button = new Button(String.valueOf(number));
+                button.setUserData(number); // Store the number itself
+                final int num = number;
+                button.setPrefSize(55, 45);
+                button.setFont(Font.font("Tahoma", FontWeight.BOLD, 12));
+                button.setDisable(true); // Disabled by default
+
+                button.getStyleClass().add("keno-grid-button");
+                button.setOnAction(e -> picked(num));
+
+                buttons[number] = button;
+                grid.add(button, col, row);
+                number++;
+            }
+        }
+    }
+
+    @Override
+    Node getNode() {
+        return grid;
+    }
+
+    @Override
+    protected void paint(int number, Cell cell) {
+        Button b = buttons[number];
+        b.pseudoClassStateChanged(SELECTED, cell == Cell.SELECTED);
+        b.pseudoClassStateChanged(DRAWN, cell == Cell.DRAWN);
+        b.pseudoClassStateChanged(MATCHED, cell == Cell.MATCHED);
+        b.setGraphic(cell == Cell.MATCHED ? star(number) : null);
+    }
+
+    @Override
+    protected void clickableChanged(int number, boolean clickable) {
+        buttons[number].setDisable(!clickable);
+    }
+
+    private Text star(int number) {
+        if (stars[number] == null) {
+            Text star = new Text("*");
+            star.getStyleClass().add("keno-star");
+            stars[number] = star;
+        }
+        return stars[number];
+    }
+}
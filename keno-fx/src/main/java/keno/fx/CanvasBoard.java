@@ -0,0 +1,135 @@
+package keno.fx;
+
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+//The board drawn on one Canvas: no nodes per cell, no css, no layout passes
+//A change repaints just the cells it touches and a click is turned into a number with arithmetic
+//Same sizes and colors as the Button grid so both look alike, in both themes (keno.css and new-look.css)
+class CanvasBoard extends KenoBoard {
+    private static final int COLS = 10;
+    private static final int ROWS = 8;
+    private static final double CELL_W = 55;
+    private static final double CELL_H = 45;
+    private static final double GAP = 4;
+    private static final double PADDING = 10;
+
+    // Fill, border, text and border width for each Cell, in Cell order
+    private static final Color[] FILL = {
+        Color.web("#DDE8D8"), Color.web("#A5D6A7"), Color.web("#D6EAF8"), Color.web("#66BB6A")
+    };
+    private static final Color[] BORDER = {
+        Color.web("#BCC8B8"), Color.web("#79B07B"), Color.web("#AED6F1"), Color.web("#4CAF50")
+    };
+    private static final Color[] TEXT = {
+        Color.web("#333333"), Color.web("#222222"), Color.web("#333333"), Color.WHITE
+    };
+    private static final double[] BORDER_WIDTH = {1, 2, 1, 2};
+
+    // The same for the New Look (dark) theme
+    private static final Color[] NEW_LOOK_FILL = {
+        Color.web("#333333"), Color.web("#2E5E30"), Color.web("#1F3A4D"), Color.web("#2E7D32")
+    };
+    private static final Color[] NEW_LOOK_BORDER = {
+        Color.web("#555555"), Color.web("#4CAF50"), Color.web("#2E6A8F"), Color.web("#39FF14")
+    };
+    private static final Color[] NEW_LOOK_TEXT = {
+        Color.web("#EE82EE"), Color.WHITE, Color.web("#EE82EE"), Color.WHITE
+    };
+
+    private static final Font NUMBER_FONT = Font.font("Tahoma", FontWeight.BOLD, 12);
+    private static final Font STAR_FONT = Font.font("Tahoma", FontWeight.BOLD, 16);
+
+    // Labels made once so painting a cell never builds a string
+    private static final String[] LABELS = new String[81];
+    static {
+        for (int n = 1; n <= 80; n++) {
+            LABELS[n] = String.valueOf(n);
+        }
+    }
+
+    private final Canvas canvas = new Canvas(PADDING * 2 + COLS * CELL_W + (COLS - 1) * GAP,
+                                             PADDING * 2 + ROWS * CELL_H + (ROWS - 1) * GAP);
+    private final GraphicsContext gc = canvas.getGraphicsContext2D();
+    private final StackPane pane = new StackPane(canvas); // Keeps the board centered like the GridPane was
+    private Color[] fill = FILL;
+    private Color[] border = BORDER;
+    private Color[] text = TEXT;
+
+    CanvasBoard() {
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        canvas.setOnMouseClicked(e -> {
+            int number = numberAt(e.getX(), e.getY());
+            if (number != 0) {
+                picked(number);
+            }
+        });
+        repaint(ALL_LOW, ALL_HIGH);
+    }
+
+    @Override
+    Node getNode() {
+        return pane;
+    }
+
+    //A canvas can't follow css, so switch palettes and paint every cell again
+    @Override
+    void setNewLook(boolean newLook) {
+        fill = newLook ? NEW_LOOK_FILL : FILL;
+        border = newLook ? NEW_LOOK_BORDER : BORDER;
+        text = newLook ? NEW_LOOK_TEXT : TEXT;
+        repaint(ALL_LOW, ALL_HIGH);
+    }
+
+    //The number under a point on the canvas, 0 for the padding and the gaps between cells
+    static int numberAt(double x, double y) {
+        x -= PADDING;
+        y -= PADDING;
+        if (x < 0 || y < 0) {
+            return 0;
+        }
+        int col = (int) (x / (CELL_W + GAP));
+        int row = (int) (y / (CELL_H + GAP));
+        if (col >= COLS || row >= ROWS || x - col * (CELL_W + GAP) >= CELL_W || y - row * (CELL_H + GAP) >= CELL_H) {
+            return 0;
+        }
+        return row * COLS + col + 1;
+    }
+
+    @Override
+    protected void paint(int number, Cell cell) {
+        int i = cell.ordinal();
+        double x = PADDING + ((number - 1) % COLS) * (CELL_W + GAP);
+        double y = PADDING + ((number - 1) / COLS) * (CELL_H + GAP);
+
+        gc.clearRect(x, y, CELL_W, CELL_H);
+        gc.setFill(fill[i]);
+        gc.fillRoundRect(x, y, CELL_W, CELL_H, 6, 6);
+        double inset = BORDER_WIDTH[i] / 2;
+        gc.setStroke(border[i]);
+        gc.setLineWidth(BORDER_WIDTH[i]);
+        gc.strokeRoundRect(x + inset, y + inset, CELL_W - BORDER_WIDTH[i], CELL_H - BORDER_WIDTH[i], 6, 6);
+
+        double centerX = x + CELL_W / 2;
+        double centerY = y + CELL_H / 2;
+        gc.setFill(text[i]);
+        if (cell == Cell.MATCHED) {
+            // Star to the left of the number, like the Button graphic
+            gc.setFont(STAR_FONT);
+            gc.fillText("*", centerX - 9, centerY + 2);
+            gc.setFont(NUMBER_FONT);
+            gc.fillText(LABELS[number], centerX + 5, centerY);
+        } else {
+            gc.setFont(NUMBER_FONT);
+            gc.fillText(LABELS[number], centerX, centerY);
+        }
+    }
+}
@@ -0,0 +1,1089 @@
+package keno.fx;
+
+/**
+ * ok so this is just the UI code for the keno game *
+ *
+ * Welcome Scene:
+ * - the first screen u see with the "KENO" title
+ * - has the "START GAME" button
+ * - has the "Menu" dropdown on the top right
+ *
+ * Game Scene:
+ * - the second screen for the main game
+ * - built right after the welcome screen's first frame (or on "START GAME" if that comes first),
+ *   so none of it is in the way of the first frame
+ * - also has the "Menu" dropdown on the top right
+ *
+ * Layout:
+ * - Left side: all the controls (spots, drawings, buttons)
+ * - Middle: the 8x10 board of 80 numbers (KenoBoard)
+ * - Right side: the results area (drawn numbers, winnings)
+ * - Top: the HBox that holds the menu button on the right
+ *
+ * Controls (Left Pane):
+ * - Radio buttons for "Spots to Play" (1, 4, 8, 10)
+ * - Radio buttons for "Number of Drawings" (1-4, 10, 20)
+ * - "Submit Choices" button
+ * - "Pick Random Numbers" button (disabled)
+ * - "Start Drawing" button (disabled)
+ * - "Turbo" button, plays every drawing left at once and shows a summary (disabled)
+ * - "Auto-play" checkbox, runs the drawings one after another without clicking
+ * - "Play New Card" button (disabled)
+ *
+ * Keno Grid (Center Pane):
+ * - the 8x10 board of 80 numbers, drawn on a Canvas (CanvasBoard)
+ * - -Dkeno.board=buttons brings back the old grid of 80 buttons (ButtonBoard)
+ * - nothing can be clicked until u hit "submit"
+ * - made the cells wider so the numbers + star show up
+ *
+ * Results Display (Right Pane):
+ * - the text box for the 20 drawn numbers
+ * - Label "1." for This Drawing's Winnings
+ * - Label "2." for Total Winnings
+ * - "Replay" slider, scrubs back through this card's drawings (from what was stored, nothing is redrawn)
+ *
+ * Menu Dropdown:
+ * - "Rules" (shows a popup)
+ * - "Odds of Winning" (shows a popup)
+ * - "New Look" (changes the colors to dark mode)
+ * - "Exit Game" (closes the app)
+ *
+ * Styling:
+ * - all the colors and fonts are in resources/css (keno.css, new-look.css), loaded once per scene
+ * - the board has 4 cell looks: default, selected (green), drawn (blue), and matched (green star)
+ * - the "New Look" dark mode is the :new-look pseudo-class on the scene roots
+ *
+ * Connections:
+ * - all the buttons are wired up with setOnAction
+ * - but they just print to the console now, no real logic
+ *
+ */
+
+import javafx.animation.KeyFrame; 
+import javafx.animation.Timeline;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.css.PseudoClass;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.*;
+import javafx.stage.Screen;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import javafx.util.Duration; 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import keno.AdvancePlayResult;
+import keno.GameJournal;
+import keno.GridSelection;
+import keno.KenoOdds;
+import keno.Keno_Game;
+import keno.Payout;
+
+public class JavaFXTemplate extends Application {
+
+    // Logo width on screen, it is decoded at this size (times the screen scale) rather than at full size
+    private static final double LOGO_WIDTH = 400;
+    private static Image logo; // Decoded once, then shared
+    
+    // When main ran, startup time is measured from here to the first frame
+    private static long mainNanos = 0;
+    
+    private Stage primaryStage;
+    private Scene welcomeScene, gameScene; // gameScene stays null until getGameScene builds it
+
+    // Theme state ("New Look" on or off), shown through the :new-look pseudo-class
+    private static final PseudoClass NEW_LOOK = PseudoClass.getPseudoClass("new-look");
+    private boolean newLook = false;
+
+    //UI Components
+    private KenoBoard board; // The 80 numbers, canvas or buttons (see KenoBoard.create)
+    private GridSelection selection = new GridSelection(); // The player's picks, the only record of what's selected
+    private ToggleGroup spotsGroup = new ToggleGroup();
+    private ToggleGroup drawingsGroup = new ToggleGroup();
+    private Button submitSelectionsButton;
+    private Button randomPickButton;
+    private Button startDrawingButton;
+    private Button playNewCardButton;
+    private Button turboButton;
+    private CheckBox autoPlayBox;
+    private Slider replaySlider;
+    private Label replayLabel;
+    private Label drawingWinningsLabel;
+    private Label totalWinningsLabel;
+    private TextArea numbersDrawnArea; // <-- BACK TO TextArea
+    private BorderPane gameRoot; // Main root pane for the game scene
+
+    private VBox spotsBox;
+    private VBox drawingsBox;
+    private int numSpotsToPick = 0; // Number of spots chosen by the player
+    private int animationCounter = 0; // For drawing animation
+    private boolean animating = false; // A drawing is on the board being animated
+    private int drawingsInFlight = 0; // Drawings handed to the drawing thread that haven't come back
+    private final Deque<PlayedDrawing> settledDrawings = new ArrayDeque<>(); // Settled, waiting to be animated
+    private final List<PlayedDrawing> playedDrawings = new ArrayList<>(); // This card's drawings, for replay
+    private int shownDrawing = -1; // Index in playedDrawings of the drawing on the board
+    
+    //ARIANA
+    private Keno_Game kenoGame;
+    
+    // Drawings are processed here instead of on the FX thread (one at a time, in order)
+    private final ExecutorService drawingExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "keno-drawing");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    @Override
+    public void start(Stage primaryStage) {
+        this.primaryStage = primaryStage;
+        primaryStage.setTitle("Keno");
+        
+        kenoGame = createKenoGame(); // Start player with $100 (or the journaled balance)
+        //Build the Welcome Scene (the Game Scene waits until the welcome screen is up)
+        welcomeScene = createWelcomeScene();
+        reportFirstFrame(welcomeScene);
+
+        //Start with the Welcome Scene
+        primaryStage.setScene(welcomeScene);
+        primaryStage.setOnCloseRequest(e -> Platform.exit()); // Ensure app closes
+        primaryStage.show();
+    }
+    
+    //Prints how long it took from main (and from JVM start) to the welcome screen's first frame,
+    //then builds the Game Scene while the player is still looking at the welcome screen
+    private void reportFirstFrame(Scene scene) {
+        Runnable firstPulse = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                long now = System.nanoTime();
+                long sinceJvmStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                if (mainNanos != 0) {
+                    System.out.printf("Startup: first frame %d ms after main (%d ms after JVM start)%n",
+                            TimeUnit.NANOSECONDS.toMillis(now - mainNanos), sinceJvmStart);
+                } else {
+                    System.out.printf("Startup: first frame %d ms after JVM start%n", sinceJvmStart);
+                }
+                // Runs after this frame is out, so it never holds up the first one
+                Platform.runLater(() -> getGameScene());
+            }
+        };
+        scene.addPostLayoutPulseListener(firstPulse);
+    }
+    
+    //The Game Scene, built the first time it is asked for
+    private Scene getGameScene() {
+        if (gameScene == null) {
+            gameScene = createGameScene();
+            gameScene.getRoot().pseudoClassStateChanged(NEW_LOOK, newLook);
+            board.setNewLook(newLook);
+        }
+        return gameScene;
+    }
+    
+    //The logo decoded straight to the size it is shown at, the first call loads it in the background
+    private static Image getLogo() {
+        if (logo == null) {
+            double scale = Screen.getPrimary().getOutputScaleX(); // Sharp on HiDPI screens too
+            logo = new Image("images/Keno-Logo.png", LOGO_WIDTH * scale, 0, true, true, true);
+        }
+        return logo;
+    }
+    
+    
+    //Lets a running drawing finish, then closes the journal (if any) so it is committed to disk
+    @Override
+    public void stop() throws Exception {
+        drawingExecutor.shutdown();
+        drawingExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        if (kenoGame.getJournal() != null) {
+            kenoGame.getJournal().close();
+        }
+    }
+    
+    //Creates the backend, if -Dkeno.journal=<file> is set every drawing is journaled
+    //and the balance is rebuilt from that file on startup
+    private Keno_Game createKenoGame() {
+        String journalPath = System.getProperty("keno.journal");
+        if (journalPath == null) {
+            return new Keno_Game(100);
+        }
+        try {
+            return new Keno_Game(100, new GameJournal(Paths.get(journalPath)));
+        } catch (IOException e) {
+            System.out.println("Error opening journal " + journalPath + ": " + e.getMessage());
+            return new Keno_Game(100);
+        }
+    }
+    
+     //This method now handles the logic for *all* drawings.
+     //isFirstDrawing True if this is the first draw (locks in numbers), false for subsequent draws.
+     //ahead True when auto-play settles it while the drawing before it is still animating
+    
+    private void runDrawing(boolean isFirstDrawing, boolean ahead) {
+        // Disable buttons to prevent clicks during animation/processing
+        lockControls();
+        
+        List<Integer> playerNumbers = getSelectedNumbers();
+        
+        // The drawing itself (settlement, journal writes) runs on the drawing thread
+        // so the grid keeps painting while it works
+        Task<PlayedDrawing> drawingTask = new Task<PlayedDrawing>() {
+            @Override
+            protected PlayedDrawing call() {
+                if (isFirstDrawing) {
+                    // This is the first draw, so lock in the player's numbers
+                    kenoGame.getPlayer().selectNumbers(playerNumbers);
+                }
+                
+                // The '1' is the bet amount ($1)
+                if (!kenoGame.processDrawing(playerNumbers, 1)) {
+                    return null;
+                }
+                // Keep what it looked like now, with auto-play the next drawing is settled while this one animates
+                return PlayedDrawing.latest(kenoGame);
+            }
+        };
+        
+        // Back on the FX thread once the drawing is settled, it waits its turn if another one is animating
+        // A drawing settled ahead after auto-play was switched off is held until the player continues
+        drawingTask.setOnSucceeded(e -> {
+            drawingsInFlight--;
+            if (drawingTask.getValue() != null) {
+                settledDrawings.add(drawingTask.getValue());
+                if (!animating && (!ahead || autoPlayBox.isSelected())) {
+                    playNextDrawing();
+                } else if (!animating) {
+                    startDrawingButton.setDisable(false);
+                    turboButton.setDisable(false);
+                }
+            } else {
+                showDrawingError("An unexpected error occurred. Are you out of funds?");
+            }
+        });
+        drawingTask.setOnFailed(e -> {
+            drawingsInFlight--;
+            showDrawingError(drawingTask.getException().getMessage());
+        });
+        
+        drawingsInFlight++;
+        drawingExecutor.execute(drawingTask);
+    }
+    
+    //Turbo: settles the drawings left on the card in one go (advance play) and shows a summary
+    //instead of animating them one by one, if the balance can't cover them all it plays as many as it can
+    private void runTurbo() {
+        lockControls();
+        
+        // A drawing auto-play settled ahead is already paid for, it joins the card as it is
+        while (!settledDrawings.isEmpty()) {
+            playedDrawings.add(settledDrawings.poll());
+        }
+        if (!kenoGame.hasMoreDrawings()) {
+            // It was the card's last drawing, nothing left for turbo
+            PlayedDrawing last = playedDrawings.get(playedDrawings.size() - 1);
+            showPlayedDrawing(playedDrawings.size() - 1);
+            updateUIAfterAnimation(last);
+            return;
+        }
+        
+        boolean isFirstDrawing = playedDrawings.isEmpty();
+        List<Integer> playerNumbers = getSelectedNumbers();
+        long ticketLow = selection.getLow();
+        long ticketHigh = selection.getHigh();
+        
+        Task<List<PlayedDrawing>> turboTask = new Task<List<PlayedDrawing>>() {
+            @Override
+            protected List<PlayedDrawing> call() {
+                if (isFirstDrawing) {
+                    kenoGame.getPlayer().selectNumbers(playerNumbers);
+                }
+                
+                // One debit for the whole stake ($1 a drawing), then every drawing is settled back to back
+                long total = kenoGame.getTotalWinnings();
+                int draws = Math.min(kenoGame.getRemainingDrawings(), kenoGame.getPlayer().getBalance());
+                if (draws < 1) {
+                    return null;
+                }
+                AdvancePlayResult result = kenoGame.playAdvance(playerNumbers, 1, draws);
+                if (result == null) {
+                    return null;
+                }
+                List<PlayedDrawing> played = new ArrayList<>(draws);
+                for (int i = 0; i < draws; i++) {
+                    total += result.getWinnings(i);
+                    played.add(PlayedDrawing.fromAdvance(result, i, ticketLow, ticketHigh, total,
+                            i < draws - 1 || kenoGame.hasMoreDrawings()));
+                }
+                return played;
+            }
+        };
+        
+        turboTask.setOnSucceeded(e -> {
+            drawingsInFlight--;
+            List<PlayedDrawing> played = turboTask.getValue();
+            if (played == null) {
+                showDrawingError("Not enough funds to play another drawing.");
+                return;
+            }
+            playedDrawings.addAll(played);
+            PlayedDrawing last = played.get(played.size() - 1);
+            showPlayedDrawing(playedDrawings.size() - 1);
+            updateUIAfterAnimation(last);
+            showTurboSummary(played);
+        });
+        turboTask.setOnFailed(e -> {
+            drawingsInFlight--;
+            showDrawingError(turboTask.getException().getMessage());
+        });
+        
+        drawingsInFlight++;
+        drawingExecutor.execute(turboTask);
+    }
+    
+    //Shows what a turbo run paid
+    private void showTurboSummary(List<PlayedDrawing> played) {
+        long stake = played.size(); // $1 a drawing
+        long won = 0;
+        PlayedDrawing best = played.get(0);
+        for (PlayedDrawing drawing : played) {
+            won += drawing.winnings;
+            if (drawing.winnings > best.winnings) {
+                best = drawing;
+            }
+        }
+        
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Turbo Results");
+        PlayedDrawing last = played.get(played.size() - 1);
+        alert.setHeaderText("Played " + played.size() + (played.size() == 1 ? " drawing" : " drawings")
+            + (last.moreDrawings ? ", your balance didn't cover the rest of the card" : ""));
+        alert.getDialogPane().setGraphic(null);
+        alert.setContentText(String.format(
+            "Stake: $%,d%nWinnings: $%,d%nNet: %s$%,d%nBest drawing: #%d, %d matched, won $%,d%n%n" +
+            "Use the Replay slider to look through each drawing.",
+            stake, won, won < stake ? "-" : "", Math.abs(won - stake),
+            best.drawId, Long.bitCount(best.matchedLow) + Long.bitCount(best.matchedHigh), best.winnings));
+        alert.show();
+    }
+    
+    //Shows an error if a drawing could not be processed
+    private void showDrawingError(String message) {
+        // Auto-play stops here, the player decides what happens next
+        autoPlayBox.setSelected(false);
+        
+        // Show an error to the user (e.g., out of money)
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Drawing Error");
+        alert.setHeaderText("Could not process drawing.");
+        alert.setContentText(message);
+        alert.showAndWait();
+        
+        // Re-enable the "start" button if something failed (once the drawing on screen has finished)
+        if (!animating) {
+            startDrawingButton.setDisable(false);
+            turboButton.setDisable(false);
+        }
+    }
+    
+    //Disables everything that could start or change a drawing while one is being played
+    private void lockControls() {
+        startDrawingButton.setDisable(true);
+        turboButton.setDisable(true);
+        playNewCardButton.setDisable(true);
+        randomPickButton.setDisable(true);
+        replaySlider.setDisable(true);
+        board.setClickable(0L, 0L); // Selection is locked while the drawing is in flight
+    }
+    
+    //Creates the initial Welcome Scene.
+    private Scene createWelcomeScene() {
+        BorderPane root = new BorderPane();
+        root.setPadding(new Insets(10));
+
+        //Menu Control
+        root.setTop(createMenuControls(false));
+
+        //Center Content
+        VBox centerBox = new VBox(20); // Adjusted spacing
+        centerBox.setAlignment(Pos.CENTER);
+
+        ImageView kenoLogo = null;
+        // lollll it wasnt working but we got ittt
+        try {
+            kenoLogo = new ImageView(getLogo());
+            kenoLogo.setFitWidth(LOGO_WIDTH); // You can change this size (LOGO_WIDTH)
+            kenoLogo.setPreserveRatio(true);
+        } catch (Exception e) {
+            System.out.println("Error loading logo: images/Keno-Logo.png not found.");
+            kenoLogo = new ImageView(); // Create empty view to avoid crash
+        }
+
+        Text developers = new Text("Game Developers:\nUshnah Hussain & Ariana Garcia");
+        developers.setFont(Font.font("Tahoma", FontWeight.NORMAL, 16));
+        developers.setTextAlignment(javafx.scene.text.TextAlignment.CENTER);
+        
+        Button startGameButton = new Button("START GAME");
+        startGameButton.setFont(Font.font("Tahoma", FontWeight.BOLD, 20));
+        startGameButton.setPrefSize(200, 60);
+
+        //Event Handler
+        startGameButton.setOnAction(e -> {
+            primaryStage.setScene(getGameScene());
+            System.out.println("Start Game button clicked! Switching to game scene.");
+        });
+
+        centerBox.getChildren().addAll(kenoLogo, developers, startGameButton);
+        root.setCenter(centerBox);
+
+        Scene scene = new Scene(root, 1000, 700);
+        addStylesheets(scene);
+        
+        return scene;
+    }
+
+    // GAME SCENE CREATION
+    //creates the main Game Play Scene.
+    private Scene createGameScene() {
+        gameRoot = new BorderPane();
+        gameRoot.setPadding(new Insets(20, 0, 20, 20));
+
+        //Menu Control
+        gameRoot.setTop(createMenuControls(true)); // true = is game scene
+
+        //Left: Controls
+        gameRoot.setLeft(createControlsPane());
+
+        //Center: Keno Grid
+        gameRoot.setCenter(createKenoBoard());
+        
+        //Right: Results
+        gameRoot.setRight(createResultsPane());
+
+        Scene scene = new Scene(gameRoot, 1000, 700);
+        addStylesheets(scene);
+        
+        return scene;
+    }
+    
+    //Both themes go on every scene up front, the stylesheets are parsed the first time and
+    //shared after that, switching themes just flips the :new-look pseudo-class
+    private void addStylesheets(Scene scene) {
+        scene.getStylesheets().addAll("css/keno.css", "css/new-look.css");
+    }
+
+    //Creates the left-side VBox for game controls (Spots, Drawings, Buttons).
+    private VBox createControlsPane() {
+        VBox controlsPane = new VBox(15);
+        controlsPane.setPadding(new Insets(10));
+        controlsPane.setMinWidth(220); 
+        controlsPane.setMaxWidth(220); 
+        controlsPane.setAlignment(Pos.TOP_LEFT); 
+
+        //Spots Selection
+        spotsBox = new VBox(5);
+        spotsBox.getChildren().add(new Label("1. Spots to Play:"));
+        RadioButton spot1 = new RadioButton("1 Spot");
+        RadioButton spot4 = new RadioButton("4 Spots");
+        RadioButton spot8 = new RadioButton("8 Spots");
+        RadioButton spot10 = new RadioButton("10 Spots");
+        spot1.setToggleGroup(spotsGroup);
+        spot4.setToggleGroup(spotsGroup);
+        spot8.setToggleGroup(spotsGroup);
+        spot10.setToggleGroup(spotsGroup);
+        spotsBox.getChildren().addAll(spot1, spot4, spot8, spot10);
+
+        //Drawings Selection
+        drawingsBox = new VBox(5);
+        drawingsBox.getChildren().add(new Label("2. Number of Drawings:"));
+        RadioButton draw1 = new RadioButton("1 Drawing");
+        RadioButton draw2 = new RadioButton("2 Drawings");
+        RadioButton draw3 = new RadioButton("3 Drawings");
+        RadioButton draw4 = new RadioButton("4 Drawings");
+        RadioButton draw10 = new RadioButton("10 Drawings");
+        RadioButton draw20 = new RadioButton("20 Drawings");
+        draw1.setToggleGroup(drawingsGroup);
+        draw2.setToggleGroup(drawingsGroup);
+        draw3.setToggleGroup(drawingsGroup);
+        draw4.setToggleGroup(drawingsGroup);
+        draw10.setToggleGroup(drawingsGroup);
+        draw20.setToggleGroup(drawingsGroup);
+        drawingsBox.getChildren().addAll(draw1, draw2, draw3, draw4, draw10, draw20);
+
+        //Submit Selections Button
+        submitSelectionsButton = new Button("3. Submit Choices");
+        submitSelectionsButton.setPrefWidth(200);
+        submitSelectionsButton.setOnAction(e -> handleSubmitChoices());
+
+        //Separator
+        Separator sep1 = new Separator();
+
+        //Random Pick Button
+        randomPickButton = new Button("Pick Random Numbers");
+        randomPickButton.setPrefWidth(200);
+        randomPickButton.setOnAction(e -> handleRandomPick());
+
+        //Start Drawing Button
+        startDrawingButton = new Button("Start Drawing");
+        startDrawingButton.setPrefWidth(200);
+        startDrawingButton.setFont(Font.font("Tahoma", FontWeight.BOLD, 14));
+        startDrawingButton.setOnAction(e -> {
+            System.out.println("Start Drawing button clicked!");
+            runDrawing(true, false); // This is the FIRST drawing
+        });
+
+        //Turbo Button
+        turboButton = new Button("Turbo: Play All Drawings");
+        turboButton.setPrefWidth(200);
+        turboButton.setOnAction(e -> {
+            System.out.println("Turbo button clicked!");
+            runTurbo();
+        });
+
+        //Auto-play, each drawing is settled while the one before it animates and shown as soon as that one finishes
+        autoPlayBox = new CheckBox("Auto-play drawings");
+
+        // Separator
+        Separator sep2 = new Separator();
+
+        //Play New Card Button
+        playNewCardButton = new Button("Play New Card");
+        playNewCardButton.setPrefWidth(200);
+        playNewCardButton.setOnAction(e -> {
+            System.out.println("Play New Card button clicked!");
+            resetGameUI(); 
+        });
+
+        //Set initial button states
+        randomPickButton.setDisable(true);
+        startDrawingButton.setDisable(true);
+        turboButton.setDisable(true);
+        playNewCardButton.setDisable(true);
+
+        controlsPane.getChildren().addAll(
+            spotsBox, drawingsBox, submitSelectionsButton, sep1,
+            randomPickButton, startDrawingButton, turboButton, autoPlayBox, sep2, playNewCardButton
+        );
+
+        return controlsPane;
+    }
+
+    //Creates the center 8x10 board
+    private Node createKenoBoard() {
+        board = KenoBoard.create();
+        board.setOnPick(this::handlePick);
+        return board.getNode();
+    }
+
+    //Called when a number on the board is clicked
+    private void handlePick(int num) {
+        System.out.println("Button " + num + " clicked!");
+
+        // Toggle the selection, only allow a new pick if player hasn't picked max spots
+        if (selection.isSelected(num) || selection.count() < numSpotsToPick) {
+            selection.toggle(num);
+            board.setSelected(selection.getLow(), selection.getHigh());
+        }
+        // Check if we should enable/disable the Start button
+        updateGridAndButtonStates();
+    }
+
+    //Creates the right-side VBox for displaying drawing results.
+    private VBox createResultsPane() {
+        VBox resultsPane = new VBox(10);
+        resultsPane.setPadding(new Insets(10, 0, 10, 10)); 
+        resultsPane.setMinWidth(300); 
+        resultsPane.setMaxWidth(300); 
+        resultsPane.setAlignment(Pos.TOP_LEFT); 
+
+        Label title = new Label("Drawing Results");
+        title.setFont(Font.font("Tahoma", FontWeight.BOLD, 16));
+
+        Label drawnLabel = new Label("Numbers Drawn (20):");
+        
+        numbersDrawnArea = new TextArea();
+        numbersDrawnArea.setEditable(false);
+        numbersDrawnArea.setWrapText(true); 
+        numbersDrawnArea.setPrefHeight(200);
+        numbersDrawnArea.setMinHeight(200);
+        numbersDrawnArea.setMaxHeight(200);
+        numbersDrawnArea.setPrefWidth(280); 
+        numbersDrawnArea.setMinWidth(280); 
+        numbersDrawnArea.setMaxWidth(280); 
+
+        drawingWinningsLabel = new Label("Current Drawing: $0.00");
+        totalWinningsLabel = new Label("Total: $0.00");
+        drawingWinningsLabel.getStyleClass().add("drawing-winnings");
+        totalWinningsLabel.getStyleClass().add("total-winnings");
+        numbersDrawnArea.getStyleClass().add("numbers-drawn");
+
+        //Replay, one stop per drawing played on this card
+        replayLabel = new Label("Replay:");
+        replaySlider = new Slider(1, 1, 1);
+        replaySlider.setMajorTickUnit(1);
+        replaySlider.setMinorTickCount(0);
+        replaySlider.setBlockIncrement(1);
+        replaySlider.setSnapToTicks(true);
+        replaySlider.setPrefWidth(280);
+        replaySlider.setMaxWidth(280);
+        replaySlider.setDisable(true);
+        replaySlider.valueProperty().addListener((obs, oldValue, newValue) -> {
+            int index = (int) Math.round(newValue.doubleValue()) - 1;
+            if (!animating && index != shownDrawing && index >= 0 && index < playedDrawings.size()) {
+                showPlayedDrawing(index);
+            }
+        });
+
+        resultsPane.getChildren().addAll(
+            title, drawnLabel, numbersDrawnArea, 
+            drawingWinningsLabel, totalWinningsLabel,
+            new Separator(), replayLabel, replaySlider
+        );
+        return resultsPane;
+    }
+
+     //Creates an HBox with a MenuButton aligned to the right.
+     //isGameScene Adds "New Look" if true.
+     //An HBox node to be placed at the top of the scene.
+    private HBox createMenuControls(boolean isGameScene) {
+        //Rules
+        MenuItem rulesItem = new MenuItem("Rules");
+        rulesItem.setOnAction(e -> showRules());
+
+        //Odds
+        MenuItem oddsItem = new MenuItem("Odds of Winning");
+        oddsItem.setOnAction(e -> showOdds());
+        
+        //Exit 
+        MenuItem exitItem = new MenuItem("Exit Game");
+        exitItem.setOnAction(e -> Platform.exit());
+        
+        // Create the MenuButton (looks like a dropdown)
+        MenuButton menuButton = new MenuButton("Menu");
+        
+        menuButton.getItems().addAll(rulesItem, oddsItem);
+
+        //New Look (Game Scene Only)
+        if (isGameScene) {
+            MenuItem newLookItem = new MenuItem("New Look");
+            newLookItem.setOnAction(e -> toggleNewLook());
+            menuButton.getItems().add(2, newLookItem); 
+        }
+
+        menuButton.getItems().addAll(new SeparatorMenuItem(), exitItem);
+
+        // Create an HBox to hold the button
+        HBox menuContainer = new HBox(menuButton);
+        menuContainer.setAlignment(Pos.CENTER_RIGHT); 
+        menuContainer.setPadding(new Insets(5, 10, 5, 0)); 
+
+        return menuContainer;
+    }
+    
+    //new look, both scenes switch together
+    private void toggleNewLook() {
+        newLook = !newLook;
+        welcomeScene.getRoot().pseudoClassStateChanged(NEW_LOOK, newLook);
+        gameScene.getRoot().pseudoClassStateChanged(NEW_LOOK, newLook);
+        board.setNewLook(newLook);
+    }
+
+    //Displays the game rules.
+    private void showRules() {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Keno Rules");
+        alert.setHeaderText("How to Play Keno");
+        alert.getDialogPane().setGraphic(null);
+        alert.setContentText(
+            "1. Choose how many 'Spots' you want to play (1, 4, 8, 10).\n" +
+            "2. Choose how many drawings you want to play (1 to 4, 10 or 20).\n" +
+            "3. Click 'Submit Choices' to lock in your selections.\n" +
+            "4. Pick your numbers on the grid, matching the number of spots you chose. Or, click 'Pick Random Numbers'.\n" +
+            "5. Click 'Start Drawing'.\n"+
+            "6. The game will draw 20 random numbers.\n" +
+            "7. You win based on how many of your numbers match the drawn numbers.\n" +
+            "8. Each drawing costs $1. If you have more drawings, click 'Continue to Next Drawing' to play the next one.\n" +
+            "9. Tick 'Auto-play' to have the drawings run on their own. Each one is bet and drawn while the one " +
+            "before it is still showing, if you untick it that drawing waits for 'Continue to Next Drawing'.\n" +
+            "10. Click 'Turbo' to play the drawings left all at once and see a summary. If your balance can't " +
+            "cover them all, it plays as many as it can.\n" +
+            "11. Drag the 'Replay' slider to look back at any drawing on the card.\n" +
+            "12. When all drawings are finished, you can 'Play New Card' or 'Exit Game'."
+        );
+        alert.showAndWait();
+    }
+
+    //Displays the odds
+    private void showOdds() {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Odds of Winning");
+        alert.setHeaderText("Prize Chart & Odds");
+        alert.getDialogPane().setGraphic(null);
+        
+        alert.setContentText(buildOddsText());
+        
+        alert.showAndWait();
+    }
+    
+    //Builds the prize chart from the real paytables, odds are worked out by KenoOdds
+    private String buildOddsText() {
+        StringBuilder text = new StringBuilder();
+        int[] spotGames = {10, 8, 4, 1};
+        
+        for (int spots : spotGames) {
+            KenoOdds odds = new KenoOdds(Payout.forSpots(spots));
+            text.append(spots).append(" SPOT GAME\n");
+            
+            // Highest match first, only the tiers that actually pay
+            for (int m = spots; m >= 0; m--) {
+                int prize = odds.getPayout().getPayout(m);
+                if (prize > 0) {
+                    text.append(String.format("Match %d:  $%,d  (1 in %,.1f)%n",
+                            m, prize, 1 / odds.getTierProbability(m)));
+                }
+            }
+            text.append(String.format("Overall Odds: 1 in %.2f%n", odds.getOverallOdds()));
+            text.append(String.format("Return to Player: %.2f%%", odds.getExpectedReturn() * 100));
+            
+            if (spots != 1) {
+                text.append("\n\n");
+            }
+        }
+        return text.toString();
+    }
+    
+    
+     //This method now handles the logic all drawings.
+     //Reads the player's picks straight from the selection mask.
+     //return A List of Integers (the numbers the player selected).
+     
+    private List<Integer> getSelectedNumbers() {
+        return selection.toList();
+    }
+
+     //Called when "3. Submit Choices" is clicked.
+     //Validates selections and enables the Keno grid.
+    private void handleSubmitChoices() {
+        int spots = getSelectedSpotsCount();
+        int drawings = getSelectedDrawingsCount();
+
+        // If nothing is selected just do nothing.
+        if (spots == 0 || drawings == 0) {
+            return;
+        }
+        
+        //Tell the backend to start the game 
+        try {
+            kenoGame.startGame(spots, drawings);
+        } catch (IllegalArgumentException ex) {
+            // This should not happen if radio buttons are set up correctly
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Error");
+            alert.setHeaderText("Invalid spots selection: " + ex.getMessage());
+            alert.showAndWait();
+            return;
+        }
+
+        // Store the number of spots to pick
+        numSpotsToPick = spots;
+        System.out.println("Player must pick " + numSpotsToPick + " spots.");
+
+        // Disable spots and drawings controls
+        setControlsDisabled(spotsBox, true);
+        setControlsDisabled(drawingsBox, true);
+        
+        // Enable grid and random pick
+        board.setClickable(KenoBoard.ALL_LOW, KenoBoard.ALL_HIGH);
+        randomPickButton.setDisable(false);
+        
+        // Disable this button
+        submitSelectionsButton.setDisable(true);
+    }
+
+     //Called when "Pick Random Numbers" is clicked.
+     //Selects random numbers on the grid for the player.
+    private void handleRandomPick() {
+        kenoGame.getPlayer().quickPick(numSpotsToPick); 
+        
+        //Get the numbers that were just picked from the player object.
+        List<Integer> randomPicks = kenoGame.getPlayer().getSelectedNumbers();
+
+        // Make them the selection, then show them on the board
+        selection.setAll(randomPicks);
+        board.setSelected(selection.getLow(), selection.getHigh());
+        
+        // Update button states (this will enable "Start Drawing")
+        updateGridAndButtonStates();
+    }
+    
+    
+    //Animates the next settled drawing
+    //With auto-play on, the drawing after it is sent off now, so it is settled by the time this one finishes
+    private void playNextDrawing() {
+        PlayedDrawing played = settledDrawings.poll();
+        if (played == null) {
+            return;
+        }
+        playedDrawings.add(played);
+        shownDrawing = playedDrawings.size() - 1;
+        if (autoPlayBox.isSelected() && played.moreDrawings && drawingsInFlight == 0) {
+            runDrawing(false, true);
+        }
+        animateDrawing(played);
+    }
+    
+    //Continue to Next Drawing: shows a drawing auto-play already settled, otherwise plays a new one
+    private void continueCard() {
+        if (!settledDrawings.isEmpty()) {
+            lockControls();
+            playNextDrawing();
+        } else {
+            runDrawing(false, false);
+        }
+    }
+    
+    //This method runs the one-by-one drawing animation
+    private void animateDrawing(PlayedDrawing played) {
+        // Get all the data needed for the animation
+        int[] drawn = played.drawn;
+        long matchedLow = played.matchedLow;
+        long matchedHigh = played.matchedHigh;
+
+        animating = true;
+        animationCounter = 0;
+        numbersDrawnArea.clear(); 
+        
+        // Clear the last drawing off the board (the player's selection stays)
+        board.setClickable(0L, 0L); // Disable grid during animation
+        board.clearDrawn();
+        
+        Timeline timeline = new Timeline();
+        // A KeyFrame runs a piece of code at a specific time.
+        KeyFrame keyFrame = new KeyFrame(Duration.millis(200), e -> {
+            if (animationCounter < drawn.length) {
+                int numberToDisplay = drawn[animationCounter];
+                
+                // 1. Add number to the text area with 10x10 formatting
+                if (animationCounter == 10) {
+                    numbersDrawnArea.appendText("\n"); 
+                }
+                numbersDrawnArea.appendText(String.format("%2d  ", numberToDisplay));
+                
+                // 2. Mark it on the board, matched numbers get the star
+                board.showDrawn(numberToDisplay, GridSelection.contains(matchedLow, matchedHigh, numberToDisplay));
+                animationCounter++;
+            }
+        });
+        
+        timeline.getKeyFrames().add(keyFrame);
+        timeline.setCycleCount(drawn.length); 
+
+        timeline.setOnFinished(e -> {
+            animating = false;
+            //update winnings and button states
+            updateUIAfterAnimation(played);
+            
+            // Auto-play: go straight on to the next drawing (it was settled during this animation)
+            // If auto-play was switched off meanwhile, that drawing is held for 'Continue to Next Drawing'
+            if (!autoPlayBox.isSelected()) {
+                return;
+            }
+            if (!settledDrawings.isEmpty()) {
+                playNextDrawing();
+            } else if (played.moreDrawings && drawingsInFlight == 0) {
+                runDrawing(false, true); // Auto-play was ticked halfway through this one
+            }
+        });
+
+        timeline.play(); // Start the animation
+    }
+    
+    //Puts a stored drawing back on the board and in the results pane, nothing is drawn again
+    private void showPlayedDrawing(int index) {
+        PlayedDrawing played = playedDrawings.get(index);
+        shownDrawing = index;
+        
+        board.clearDrawn();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < played.drawn.length; i++) {
+            int n = played.drawn[i];
+            board.showDrawn(n, GridSelection.contains(played.matchedLow, played.matchedHigh, n));
+            if (i == 10) {
+                text.append("\n");
+            }
+            text.append(String.format("%2d  ", n));
+        }
+        numbersDrawnArea.setText(text.toString());
+        
+        drawingWinningsLabel.setText(String.format("Current Drawing Winnings: $%.2f", (double) played.winnings));
+        totalWinningsLabel.setText(String.format("Total Winnings: $%.2f", (double) played.totalWinnings));
+        replayLabel.setText("Replay: drawing " + (index + 1) + " of " + playedDrawings.size());
+    }
+    
+     //This method is called after the animation is complete.
+     //It updates winnings and button states
+    private void updateUIAfterAnimation(PlayedDrawing played) {
+        // Get Winnings (as of this drawing, the game may already have settled the next one)
+        double drawingWinnings = played.winnings;
+        double totalWinnings = played.totalWinnings;
+
+        // Update winnings labels
+        drawingWinningsLabel.setText(String.format("Current Drawing Winnings: $%.2f", drawingWinnings));
+        totalWinningsLabel.setText(String.format("Total Winnings: $%.2f", totalWinnings));
+        
+        // The replay slider covers every drawing so far, and sits on the newest one
+        shownDrawing = playedDrawings.size() - 1;
+        replaySlider.setMax(playedDrawings.size());
+        replaySlider.setValue(playedDrawings.size());
+        replayLabel.setText("Replay: drawing " + playedDrawings.size() + " of " + playedDrawings.size());
+                
+        // All buttons are already disabled from the animation start.
+        // set the control button states.
+        
+        // MULTI-DRAW LOGIC
+        // Auto-play carries on by itself, so the controls stay locked until the card is done
+        // A drawing still being settled ahead keeps them locked too, it enables them once it is held
+        boolean autoPlaying = played.moreDrawings && autoPlayBox.isSelected();
+        boolean busy = autoPlaying || drawingsInFlight > 0;
+        replaySlider.setDisable(autoPlaying || playedDrawings.size() < 2);
+        if (played.moreDrawings) {
+            // There are more drawings left
+            startDrawingButton.setText("Continue to Next Drawing");
+            startDrawingButton.setDisable(busy); // Re-enable the button
+            turboButton.setDisable(busy);
+            // Set its action to show the next drawing (not the first)
+            startDrawingButton.setOnAction(e -> continueCard()); 
+            
+            playNewCardButton.setDisable(true); // Can't play new card yet
+        } else {
+            // This was the last drawing
+            startDrawingButton.setText("Start Drawing");
+            startDrawingButton.setDisable(true);
+            turboButton.setDisable(true);
+            // Reset its action for the next game
+            startDrawingButton.setOnAction(e -> runDrawing(true, false)); 
+            
+            playNewCardButton.setDisable(false); // Now they can play a new card
+        }
+        
+        randomPickButton.setDisable(true); // Always disabled after first pick
+    }
+
+    //Resets the entire game UI to its initial state for a new card.
+    private void resetGameUI() {
+        // This resets the backend
+        kenoGame.resetGame(kenoGame.getPlayer().getBalance());
+        
+        // Reset Keno grid
+        selection.clear();
+        board.setSelected(0L, 0L);
+        board.clearDrawn(); // Removes the stars too
+        board.setClickable(0L, 0L);
+
+        //Reset results pane
+        playedDrawings.clear();
+        settledDrawings.clear();
+        shownDrawing = -1;
+        replaySlider.setDisable(true);
+        replaySlider.setMax(1);
+        replaySlider.setValue(1);
+        replayLabel.setText("Replay:");
+        numbersDrawnArea.clear(); // <-- Use TextArea
+        drawingWinningsLabel.setText("Current Drawing Winnings: $0.00");
+        totalWinningsLabel.setText("Total Winnings: $0.00");
+
+        //Reset controls
+        setControlsDisabled(spotsBox, false);
+        setControlsDisabled(drawingsBox, false);
+        spotsGroup.selectToggle(null);
+        drawingsGroup.selectToggle(null);
+
+        //Reset button states
+        submitSelectionsButton.setDisable(false);
+        randomPickButton.setDisable(true);
+        startDrawingButton.setText("Start Drawing");
+        startDrawingButton.setOnAction(e -> runDrawing(true, false));
+        startDrawingButton.setDisable(true);
+        turboButton.setDisable(true);
+        playNewCardButton.setDisable(true);
+        numSpotsToPick = 0;
+    }
+
+    
+     //HELPER METHOD
+     //Checks how many numbers are selected vs. how many should be.
+     //Enables/Disables the "Start Drawing" and "Random Pick" buttons.
+    private void updateGridAndButtonStates() {
+        int selectedCount = selection.count();
+        
+        if (selectedCount == numSpotsToPick) {
+            // Player has selected the correct amount
+            startDrawingButton.setDisable(false);
+            turboButton.setDisable(false);
+            randomPickButton.setDisable(true); // Can't pick random after manual pick
+            
+            // Disable all other numbers
+            board.setClickable(selection.getLow(), selection.getHigh());
+        } else {
+            // Player has not selected enough (or de-selected one)
+            startDrawingButton.setDisable(true);
+            turboButton.setDisable(true);
+            randomPickButton.setDisable(false);
+            
+            // Re-enable all numbers
+            board.setClickable(KenoBoard.ALL_LOW, KenoBoard.ALL_HIGH);
+        }
+    }
+    
+     //Reads the selected radio button for "Spots to Play".
+     //return The number of spots
+    private int getSelectedSpotsCount() {
+        RadioButton selected = (RadioButton) spotsGroup.getSelectedToggle();
+        if (selected == null) return 0;
+        
+        String text = selected.getText(); 
+        return Integer.parseInt(text.split(" ")[0]);
+    }
+
+     //Reads the selected radio button for "Number of Drawings".
+     //Return The number of drawings 
+    private int getSelectedDrawingsCount() {
+        RadioButton selected = (RadioButton) drawingsGroup.getSelectedToggle();
+        if (selected == null) return 0;
+        
+        String text = selected.getText(); 
+        return Integer.parseInt(text.split(" ")[0]);
+    }
+    
+    //A utility to disable or enable all controls in a VBox.
+    private void setControlsDisabled(VBox pane, boolean disabled) {
+        // We skip the first child, which is the Label
+        for (Node node : pane.getChildren()) {
+            if (node instanceof RadioButton) {
+                node.setDisable(disabled);
+            }
+        }
+    }
+    
+    public static void main(String[] args) {
+        mainNanos = System.nanoTime();
+        launch(args);
+    }
+}
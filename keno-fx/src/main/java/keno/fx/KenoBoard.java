@@ -0,0 +1,135 @@
+package keno.fx;
+
+import java.util.function.IntConsumer;
+import javafx.scene.Node;
+import keno.GridSelection;
+
+//The 80 number board in the middle of the game scene
+//Everything it shows is kept as masks (same layout as GridSelection), each change works out
+//which cells actually changed and repaints only those
+//-Dkeno.board=buttons swaps the canvas for the old grid of 80 Buttons
+abstract class KenoBoard {
+    // Every number on the board: 1-63 in the low word, 64-80 in the high word
+    static final long ALL_LOW = ~1L;
+    static final long ALL_HIGH = (1L << 17) - 1;
+
+    // How a cell looks, a match wins over drawn and selected
+    enum Cell {
+        DEFAULT, SELECTED, DRAWN, MATCHED
+    }
+
+    private long selectedLow, selectedHigh;
+    private long drawnLow, drawnHigh;
+    private long matchedLow, matchedHigh;
+    private long clickableLow, clickableHigh;
+    private IntConsumer onPick;
+
+    //Picks the renderer from -Dkeno.board (canvas unless it says buttons)
+    static KenoBoard create() {
+        if ("buttons".equals(System.getProperty("keno.board"))) {
+            return new ButtonBoard();
+        }
+        return new CanvasBoard();
+    }
+
+    //The node to put in the scene
+    abstract Node getNode();
+
+    //Draws one cell the way it looks now
+    protected abstract void paint(int number, Cell cell);
+
+    //Follows the New Look theme, the Button grid gets it from new-look.css so there's nothing to do
+    void setNewLook(boolean newLook) {
+    }
+
+    //Turns clicking on or off for one cell (the canvas just checks isClickable instead)
+    protected void clickableChanged(int number, boolean clickable) {
+    }
+
+    //Called with the number whenever a clickable cell is clicked
+    void setOnPick(IntConsumer onPick) {
+        this.onPick = onPick;
+    }
+
+    //The player's picks
+    void setSelected(long low, long high) {
+        long changedLow = selectedLow ^ low;
+        long changedHigh = selectedHigh ^ high;
+        selectedLow = low;
+        selectedHigh = high;
+        repaint(changedLow, changedHigh);
+    }
+
+    //Which numbers can be clicked (0, 0 locks the whole board)
+    void setClickable(long low, long high) {
+        long changedLow = clickableLow ^ low;
+        long changedHigh = clickableHigh ^ high;
+        clickableLow = low;
+        clickableHigh = high;
+        for (; changedLow != 0; changedLow &= changedLow - 1) {
+            int n = Long.numberOfTrailingZeros(changedLow);
+            clickableChanged(n, isClickable(n));
+        }
+        for (; changedHigh != 0; changedHigh &= changedHigh - 1) {
+            int n = Long.numberOfTrailingZeros(changedHigh) + 64;
+            clickableChanged(n, isClickable(n));
+        }
+    }
+
+    //Marks one drawn number, matched if the player picked it
+    void showDrawn(int number, boolean matched) {
+        long bit = 1L << (number & 63);
+        if (number < 64) {
+            drawnLow |= bit;
+            matchedLow |= matched ? bit : 0L;
+        } else {
+            drawnHigh |= bit;
+            matchedHigh |= matched ? bit : 0L;
+        }
+        paint(number, cellOf(number));
+    }
+
+    //Takes the drawn and matched marks off, the picks stay
+    void clearDrawn() {
+        long changedLow = drawnLow | matchedLow;
+        long changedHigh = drawnHigh | matchedHigh;
+        drawnLow = drawnHigh = matchedLow = matchedHigh = 0L;
+        repaint(changedLow, changedHigh);
+    }
+
+    boolean isClickable(int number) {
+        return GridSelection.contains(clickableLow, clickableHigh, number);
+    }
+
+    Cell cellOf(int number) {
+        if (GridSelection.contains(matchedLow, matchedHigh, number)) {
+            return Cell.MATCHED;
+        }
+        if (GridSelection.contains(selectedLow, selectedHigh, number)) {
+            return Cell.SELECTED;
+        }
+        if (GridSelection.contains(drawnLow, drawnHigh, number)) {
+            return Cell.DRAWN;
+        }
+        return Cell.DEFAULT;
+    }
+
+    //Passes a click on to the game if the cell takes clicks
+    protected void picked(int number) {
+        if (onPick != null && isClickable(number)) {
+            onPick.accept(number);
+        }
+    }
+
+    //Paints every cell in the masks
+    protected void repaint(long low, long high) {
+        for (; low != 0; low &= low - 1) {
+            int n = Long.numberOfTrailingZeros(low);
+            paint(n, cellOf(n));
+        }
+        for (; high != 0; high &= high - 1) {
+            int n = Long.numberOfTrailingZeros(high) + 64;
+            paint(n, cellOf(n));
+        }
+    }
+}
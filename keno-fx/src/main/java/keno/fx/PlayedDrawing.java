@@ -0,0 +1,54 @@
+package keno.fx;
+
+import java.util.List;
+import keno.AdvancePlayResult;
+import keno.Drawing;
+import keno.Keno_Game;
+
+//One settled drawing as the UI shows it
+//Taken on the drawing thread right after settling, so the UI never reads the live game while it animates,
+//and kept for the card so any drawing can be replayed as it was
+final class PlayedDrawing {
+    final long drawId;
+    final int[] drawn; // In the order they were drawn
+    final long matchedLow;
+    final long matchedHigh;
+    final int winnings;
+    final long totalWinnings; // Card total after this drawing
+    final boolean moreDrawings; // Whether the card had drawings left after this one
+
+    private PlayedDrawing(long drawId, int[] drawn, long matchedLow, long matchedHigh, int winnings,
+                          long totalWinnings, boolean moreDrawings) {
+        this.drawId = drawId;
+        this.drawn = drawn;
+        this.matchedLow = matchedLow;
+        this.matchedHigh = matchedHigh;
+        this.winnings = winnings;
+        this.totalWinnings = totalWinnings;
+        this.moreDrawings = moreDrawings;
+    }
+
+    //The drawing the game just settled with processDrawing
+    static PlayedDrawing latest(Keno_Game game) {
+        Drawing drawing = game.getDrawing();
+        return new PlayedDrawing(game.getDrawId(), toArray(drawing.getWinningNumbers()),
+                drawing.getMatchedLow(), drawing.getMatchedHigh(), game.getCurrentDrawingWinnings(),
+                game.getTotalWinnings(), game.hasMoreDrawings());
+    }
+
+    //Drawing i of an advance play result, matches come from the ticket mask
+    static PlayedDrawing fromAdvance(AdvancePlayResult result, int i, long ticketLow, long ticketHigh,
+                                     long totalWinnings, boolean moreDrawings) {
+        return new PlayedDrawing(result.getDrawId(i), toArray(result.getDrawnNumbers(i)),
+                result.getDrawLow(i) & ticketLow, result.getDrawHigh(i) & ticketHigh, result.getWinnings(i),
+                totalWinnings, moreDrawings);
+    }
+
+    private static int[] toArray(List<Integer> numbers) {
+        int[] array = new int[numbers.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = numbers.get(i);
+        }
+        return array;
+    }
+}
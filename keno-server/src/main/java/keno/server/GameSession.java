@@ -0,0 +1,208 @@
+package keno.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import keno.AdvancePlayResult;
+import keno.DrawStats;
+import keno.GameConfig;
+import keno.Keno_Game;
+
+//one player's game on the server plus whoever is listening for its draws
+class GameSession {
+    private final long id;
+    private final Keno_Game game;
+    private List<Integer> picks = new ArrayList<>();
+
+    //events a subscriber can fall behind by before it is dropped
+    static final int MAX_PENDING_EVENTS = 256;
+
+    //open server-sent event streams for this game
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    //runs the socket writes, so a subscriber that stops reading never holds up a draw request
+    private final Executor writers;
+
+    GameSession(long id, int balance, DrawStats stats, Executor writers) {
+        this.id = id;
+        this.game = new Keno_Game(balance);
+        this.writers = writers;
+        game.setStats(stats);
+    }
+
+    long getId() {
+        return id;
+    }
+
+    //Keno_Game isn't thread safe, so every request for this session goes through its lock
+    //the whole ticket is checked before the game is touched, so a bad one leaves the last card as it was
+    synchronized void submitTicket(int spots, int drawings, List<Integer> numbers) {
+        GameConfig config = game.getConfig();
+        if (!config.hasPayout(spots)) {
+            throw new IllegalArgumentException("No paytable for " + spots + " spots");
+        }
+        if (drawings < 1) {
+            throw new IllegalArgumentException("drawings must be at least 1");
+        }
+        if (numbers != null && (numbers.size() != spots || !distinctInPool(numbers, config.getPoolSize()))) {
+            throw new IllegalArgumentException("Ticket needs " + spots + " different numbers between 1 and "
+                    + config.getPoolSize());
+        }
+
+        game.startGame(spots, drawings);
+        if (numbers == null) {
+            game.getPlayer().quickPick(spots);
+        } else {
+            game.getPlayer().selectNumbers(numbers);
+        }
+        this.picks = game.getPlayer().getSelectedNumbers();
+    }
+
+    private static boolean distinctInPool(List<Integer> numbers, int poolSize) {
+        boolean[] seen = new boolean[poolSize + 1];
+        for (int n : numbers) {
+            if (n < 1 || n > poolSize || seen[n]) {
+                return false;
+            }
+            seen[n] = true;
+        }
+        return true;
+    }
+
+    //runs one drawing, publishes it and returns its result as json (null if the drawing couldn't be played)
+    //publishing under the lock keeps the events in draw order, it only queues them so it never blocks
+    synchronized String runDrawing(int bet) {
+        if (!game.processDrawing(picks, bet)) {
+            return null;
+        }
+        String json = String.format("{\"gameId\":%d,\"drawId\":%d,\"drawn\":%s,\"matched\":%s,\"winnings\":%d,"
+                + "\"totalWinnings\":%d,\"balance\":%d,\"moreDrawings\":%b}",
+                id, game.getDrawId(), game.getDrawing().getWinningNumbers(), game.getDrawing().getMatchedNumbers(),
+                game.getCurrentDrawingWinnings(), game.getTotalWinnings(), game.getPlayer().getBalance(),
+                game.hasMoreDrawings());
+        publish("draw", json);
+        return json;
+    }
+
+    //runs the next draws of the ticket in one go (0 = every drawing left) and publishes them as one event
+    //null if it couldn't be played
+    synchronized String runAdvance(int bet, int draws) {
+        if (!game.isGameActive()) {
+            return null;
+        }
+        AdvancePlayResult result = game.playAdvance(picks, bet, draws == 0 ? game.getRemainingDrawings() : draws);
+        if (result == null) {
+            return null;
+        }
+        StringBuilder matches = new StringBuilder("[");
+        StringBuilder winnings = new StringBuilder("[");
+        for (int i = 0; i < result.getDraws(); i++) {
+            String sep = (i == 0) ? "" : ",";
+            matches.append(sep).append(result.getMatches(i));
+            winnings.append(sep).append(result.getWinnings(i));
+        }
+        String json = String.format("{\"gameId\":%d,\"firstDrawId\":%d,\"draws\":%d,\"matches\":%s],\"winnings\":%s],"
+                + "\"stake\":%d,\"totalWinnings\":%d,\"balance\":%d,\"moreDrawings\":%b}",
+                id, result.getDrawId(0), result.getDraws(), matches, winnings, result.getStake(),
+                result.getTotalWinnings(), game.getPlayer().getBalance(), game.hasMoreDrawings());
+        publish("advance", json);
+        return json;
+    }
+
+    synchronized String ticketJson() {
+        return String.format("{\"gameId\":%d,\"picks\":%s,\"drawings\":%d}", id, picks, game.getTotalDrawings());
+    }
+
+    String balanceJson() {
+        return String.format("{\"gameId\":%d,\"balance\":%d}", id, game.getPlayer().getBalance());
+    }
+
+    void subscribe(OutputStream stream) {
+        subscribers.add(new Subscriber(stream));
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    //queues an event for every subscriber, one that has gone away or fallen too far behind is dropped
+    private void publish(String name, String json) {
+        byte[] event = ("event: " + name + "\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(event)) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.close();
+    }
+
+    void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        subscribers.clear();
+    }
+
+    //one event stream: a bounded queue drained by at most one writer at a time, so its events stay in order
+    //and a stalled socket only ever ties up its own writer
+    private final class Subscriber {
+        private final OutputStream stream;
+        private final ArrayBlockingQueue<byte[]> pending = new ArrayBlockingQueue<>(MAX_PENDING_EVENTS);
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private volatile boolean closed = false;
+
+        Subscriber(OutputStream stream) {
+            this.stream = stream;
+        }
+
+        //false when the subscriber is gone or too far behind
+        boolean offer(byte[] event) {
+            if (closed || !pending.offer(event)) {
+                return false;
+            }
+            if (writing.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+            return true;
+        }
+
+        private void drain() {
+            try {
+                byte[] event;
+                while (!closed && (event = pending.poll()) != null) {
+                    stream.write(event);
+                    stream.flush();
+                }
+            } catch (IOException e) {
+                drop(this);
+            } finally {
+                writing.set(false);
+            }
+            //an event queued after the last poll but before the flag was cleared still needs a writer
+            if (!closed && !pending.isEmpty() && writing.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        void close() {
+            closed = true;
+            pending.clear();
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // already gone
+            }
+        }
+    }
+}
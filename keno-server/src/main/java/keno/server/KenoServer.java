@@ -0,0 +1,294 @@
+package keno.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import keno.DrawStats;
+import keno.KenoMetrics;
+
+//runs keno games over http on the jdk's built in server
+//
+//  POST   /games?balance=100                               start a game, returns its id
+//  POST   /games/{id}/ticket?spots=4&drawings=2[&numbers=1,2,3,4]   submit a ticket (quick pick if no numbers)
+//  POST   /games/{id}/draw?bet=1                           run the next drawing
+//  POST   /games/{id}/advance?bet=1[&draws=5]              advance play: run the next draws (default all left) at once
+//  GET    /games/{id}/balance                              current balance
+//  GET    /games/{id}/events                               server-sent events, one "draw" event per drawing
+//                                                          (one "advance" event per advance play)
+//  DELETE /games/{id}                                      end the game
+//  GET    /stats?window=100[&count=10]                     hot/cold numbers over every game (window 100, 1000 or all)
+//  GET    /metrics                                         engine metrics in prometheus text format
+public class KenoServer {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    //every session feeds its drawings in here
+    private final DrawStats stats = new DrawStats();
+
+    //open session count, registered on the shared metrics until the server stops
+    private final LongSupplier sessionGauge = sessions::size;
+
+    //constructor (port 0 picks a free port)
+    public KenoServer(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.executor = perRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/games", this::handle);
+        server.createContext("/stats", this::handleStats);
+        server.createContext("/metrics", this::handleMetrics);
+        KenoMetrics.shared().registerGauge("keno_server_sessions", sessionGauge);
+    }
+
+    //one virtual thread per request when the runtime has them (21+), otherwise a cached pool
+    private static ExecutorService perRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public void start() {
+        KenoMetrics.shared().registerMBean();
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        for (GameSession session : sessions.values()) {
+            session.close();
+        }
+        sessions.clear();
+        executor.shutdownNow();
+        KenoMetrics.shared().unregisterGauge("keno_server_sessions", sessionGauge);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "{\"error\":\"" + e.getMessage().replace("\"", "'") + "\"}");
+        } catch (RuntimeException e) {
+            send(exchange, 500, "{\"error\":\"internal error\"}");
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().split("/");
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        // path[0] is "" and path[1] is "games"
+        if (path.length == 2) {
+            if (!method.equals("POST")) {
+                send(exchange, 405, "{\"error\":\"use POST to start a game\"}");
+                return;
+            }
+            int balance = intParam(query, "balance", 100);
+            long id = nextId.getAndIncrement();
+            GameSession session = new GameSession(id, balance, stats, executor);
+            sessions.put(id, session);
+            send(exchange, 201, session.balanceJson());
+            return;
+        }
+
+        GameSession session = sessions.get(parseId(path[2]));
+        if (session == null) {
+            send(exchange, 404, "{\"error\":\"no such game\"}");
+            return;
+        }
+
+        String action = (path.length > 3) ? path[3] : "";
+        switch (method + " " + action) {
+            case "POST ticket":
+                session.submitTicket(intParam(query, "spots", 0), intParam(query, "drawings", 1),
+                        numbersParam(query.get("numbers")));
+                send(exchange, 200, session.ticketJson());
+                break;
+
+            case "POST draw":
+                String result = session.runDrawing(intParam(query, "bet", 1));
+                if (result == null) {
+                    send(exchange, 409, "{\"error\":\"no ticket in play or not enough balance\"}");
+                } else {
+                    send(exchange, 200, result);
+                }
+                break;
+
+            case "POST advance":
+                String played = session.runAdvance(intParam(query, "bet", 1), intParam(query, "draws", 0));
+                if (played == null) {
+                    send(exchange, 409, "{\"error\":\"no ticket in play or not enough balance\"}");
+                } else {
+                    send(exchange, 200, played);
+                }
+                break;
+
+            case "GET balance":
+                send(exchange, 200, session.balanceJson());
+                break;
+
+            case "GET events":
+                // the stream stays open after the handler returns, draws are pushed by publish
+                exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+                exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+                exchange.sendResponseHeaders(200, 0);
+                OutputStream stream = exchange.getResponseBody();
+                stream.write(": subscribed\n\n".getBytes(StandardCharsets.UTF_8));
+                stream.flush();
+                session.subscribe(stream);
+                break;
+
+            case "DELETE ":
+                sessions.remove(session.getId());
+                session.close();
+                send(exchange, 200, session.balanceJson());
+                break;
+
+            default:
+                send(exchange, 404, "{\"error\":\"unknown request\"}");
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                send(exchange, 405, "{\"error\":\"use GET for stats\"}");
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            DrawStats.Window window = windowParam(query.getOrDefault("window", "100"));
+            int count = intParam(query, "count", 10);
+
+            // the snapshot never blocks the sessions that are drawing
+            DrawStats.Snapshot snapshot = stats.snapshot();
+            send(exchange, 200, String.format("{\"draws\":%d,\"windowDraws\":%d,\"hot\":%s,\"cold\":%s}",
+                    snapshot.getDraws(), snapshot.getDraws(window),
+                    Arrays.toString(snapshot.getHot(count, window)).replace(" ", ""),
+                    Arrays.toString(snapshot.getCold(count, window)).replace(" ", "")));
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "{\"error\":\"" + e.getMessage().replace("\"", "'") + "\"}");
+        }
+    }
+
+    private static DrawStats.Window windowParam(String value) {
+        switch (value) {
+            case "100":
+                return DrawStats.Window.LAST_100;
+            case "1000":
+                return DrawStats.Window.LAST_1000;
+            case "all":
+                return DrawStats.Window.ALL;
+            default:
+                throw new IllegalArgumentException("window must be 100, 1000 or all");
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        byte[] body = KenoMetrics.shared().getPrometheusText().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    public DrawStats getStats() {
+        return stats;
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static long parseId(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+    }
+
+    //"1,2,3" -> [1, 2, 3], null when the ticket should be a quick pick
+    private static List<Integer> numbersParam(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        List<Integer> numbers = new ArrayList<>();
+        for (String n : value.split(",")) {
+            try {
+                numbers.add(Integer.parseInt(n.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("numbers must be a comma separated list");
+            }
+        }
+        return numbers;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : 8080;
+        KenoServer server = new KenoServer(port);
+        server.start();
+        System.out.println("Keno server listening on port " + server.getPort());
+    }
+}
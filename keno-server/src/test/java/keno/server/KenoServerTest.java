@@ -0,0 +1,290 @@
+package keno.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import keno.DrawStats;
+import keno.KenoMetrics;
+
+
+class KenoServerTest {
+	
+	private KenoServer server;
+	private HttpClient client;
+	
+	@BeforeEach
+	public void init() throws IOException {
+		server = new KenoServer(0);
+		server.start();
+		client = HttpClient.newHttpClient();
+	}
+	
+	@AfterEach
+	public void shutdown() {
+		server.stop();
+	}
+	
+	private HttpResponse<String> call(String method, String path) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+				.method(method, HttpRequest.BodyPublishers.noBody()).build();
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+	
+	private static long field(String json, String name) {
+		Matcher m = Pattern.compile("\"" + name + "\":(-?\\d+)").matcher(json);
+		assertTrue(m.find(), name + " should be in " + json);
+		return Long.parseLong(m.group(1));
+	}
+	
+	@Test //1
+	@DisplayName("Game can be started, played and checked over http")
+	public void testPlayOverHttp() throws Exception {
+		HttpResponse<String> started = call("POST", "/games?balance=50");
+		assertEquals(201, started.statusCode(), "game should be created");
+		long id = field(started.body(), "gameId");
+		
+		HttpResponse<String> ticket = call("POST", "/games/" + id + "/ticket?spots=4&drawings=1&numbers=5,10,15,20");
+		assertEquals(200, ticket.statusCode(), "ticket should be accepted");
+		
+		HttpResponse<String> draw = call("POST", "/games/" + id + "/draw?bet=2");
+		assertEquals(200, draw.statusCode(), "drawing should run");
+		long winnings = field(draw.body(), "winnings");
+		
+		HttpResponse<String> balance = call("GET", "/games/" + id + "/balance");
+		assertEquals(50 - 2 + winnings, field(balance.body(), "balance"), "balance should be bet and winnings");
+		
+		assertEquals(409, call("POST", "/games/" + id + "/draw?bet=2").statusCode(), "card is finished");
+		assertEquals(400, call("POST", "/games/" + id + "/ticket?spots=5").statusCode(), "5 spots has no paytable");
+		assertEquals(404, call("GET", "/games/999/balance").statusCode(), "unknown game");
+		
+		assertEquals(200, call("DELETE", "/games/" + id).statusCode(), "game should end");
+		assertEquals(0, server.getSessionCount(), "session should be gone");
+	}
+	
+	@Test //2
+	@DisplayName("Subscribers get every draw pushed as an event")
+	public void testDrawEvents() throws Exception {
+		long id = field(call("POST", "/games").body(), "gameId");
+		call("POST", "/games/" + id + "/ticket?spots=8&drawings=3");
+		
+		HttpRequest subscribe = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort()
+				+ "/games/" + id + "/events")).GET().build();
+		InputStream events = client.send(subscribe, HttpResponse.BodyHandlers.ofInputStream()).body();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(events, StandardCharsets.UTF_8));
+		assertEquals(": subscribed", reader.readLine(), "stream should open with a comment");
+		
+		String draw = call("POST", "/games/" + id + "/draw?bet=1").body();
+		
+		String line;
+		do {
+			line = reader.readLine();
+		} while (line != null && !line.startsWith("data: "));
+		assertNotNull(line, "a draw event should arrive");
+		assertEquals(draw, line.substring("data: ".length()), "event should carry the same result");
+		events.close();
+	}
+	
+	@Test //3
+	@DisplayName("Many sessions can play at the same time")
+	public void testConcurrentSessions() throws Exception {
+		List<CompletableFuture<Long>> games = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			games.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					long id = field(call("POST", "/games?balance=10").body(), "gameId");
+					call("POST", "/games/" + id + "/ticket?spots=10&drawings=1");
+					return field(call("POST", "/games/" + id + "/draw?bet=1").body(), "balance");
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}));
+		}
+		for (CompletableFuture<Long> game : games) {
+			assertTrue(game.get() >= 9, "every session should have played its drawing");
+		}
+		assertEquals(200, server.getSessionCount(), "every session should be open");
+	}
+	
+	@Test //4
+	@DisplayName("Advance play settles the whole card in one request")
+	public void testAdvancePlay() throws Exception {
+		long id = field(call("POST", "/games?balance=100").body(), "gameId");
+		call("POST", "/games/" + id + "/ticket?spots=4&drawings=20&numbers=5,10,15,20");
+		
+		HttpResponse<String> played = call("POST", "/games/" + id + "/advance?bet=2");
+		assertEquals(200, played.statusCode(), "advance play should run");
+		assertEquals(20, field(played.body(), "draws"), "every drawing on the card should play");
+		assertEquals(40, field(played.body(), "stake"), "stake is the bet on each drawing");
+		assertEquals(100 - 40 + field(played.body(), "totalWinnings"), field(played.body(), "balance"));
+		
+		assertEquals(409, call("POST", "/games/" + id + "/advance?bet=2").statusCode(), "card is finished");
+	}
+	
+	@Test //5
+	@DisplayName("Stats count the drawings of every game")
+	public void testStats() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			long id = field(call("POST", "/games").body(), "gameId");
+			call("POST", "/games/" + id + "/ticket?spots=1&drawings=1&numbers=7");
+			call("POST", "/games/" + id + "/draw?bet=1");
+		}
+		
+		HttpResponse<String> stats = call("GET", "/stats?window=all&count=5");
+		assertEquals(200, stats.statusCode());
+		assertEquals(3, field(stats.body(), "draws"), "every drawing should be counted");
+		assertEquals(3, server.getStats().snapshot().getMatchHistogram(1)[0]
+				+ server.getStats().snapshot().getMatchHistogram(1)[1], "every ticket should be counted");
+		assertEquals(400, call("GET", "/stats?window=7").statusCode(), "unknown window");
+	}
+	
+	@Test //6
+	@DisplayName("Metrics are served in prometheus text format")
+	public void testMetrics() throws Exception {
+		long id = field(call("POST", "/games").body(), "gameId");
+		call("POST", "/games/" + id + "/ticket?spots=4&drawings=2");
+		call("POST", "/games/" + id + "/draw?bet=1");
+		
+		HttpResponse<String> metrics = call("GET", "/metrics");
+		assertEquals(200, metrics.statusCode());
+		assertTrue(metrics.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+		String text = metrics.body();
+		assertTrue(text.contains("# TYPE keno_drawings_total counter"), text);
+		assertTrue(text.contains("keno_draw_seconds{quantile=\"0.99\"}"), text);
+		assertTrue(text.contains("keno_server_sessions 1"), text);
+		assertTrue(text.contains("# TYPE keno_open_tickets gauge"), text);
+	}
+	
+	@Test //7
+	@DisplayName("A rejected ticket leaves the previous card in play")
+	public void testRejectedTicket() throws Exception {
+		long id = field(call("POST", "/games?balance=100").body(), "gameId");
+		HttpResponse<String> ticket = call("POST", "/games/" + id + "/ticket?spots=10&drawings=3");
+		assertEquals(200, ticket.statusCode());
+		
+		assertEquals(400, call("POST", "/games/" + id + "/ticket?spots=4&drawings=1&numbers=1,2,3").statusCode(),
+				"too few numbers");
+		assertEquals(400, call("POST", "/games/" + id + "/ticket?spots=4&drawings=1&numbers=1,2,3,3").statusCode(),
+				"repeated number");
+		assertEquals(400, call("POST", "/games/" + id + "/ticket?spots=5&drawings=1").statusCode(), "no paytable");
+		assertEquals(400, call("POST", "/games/" + id + "/ticket?spots=4&drawings=0").statusCode(), "no drawings");
+		assertEquals(100, field(call("GET", "/games/" + id + "/balance").body(), "balance"), "nothing should be bet");
+		
+		HttpResponse<String> draw = call("POST", "/games/" + id + "/draw?bet=1");
+		assertEquals(200, draw.statusCode(), "the 10 spot card should still play");
+		assertTrue(draw.body().contains("\"moreDrawings\":true"), "the card should still have 2 of its 3 drawings left");
+		assertEquals(99, field(draw.body(), "balance") - field(draw.body(), "winnings"), "only the one bet was taken");
+	}
+	
+	@Test //8
+	@DisplayName("A subscriber that stops reading doesn't hold up draws and gets dropped")
+	public void testStalledSubscriber() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		OutputStream stalled = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new IOException(e);
+				}
+			}
+		};
+		ExecutorService writers = Executors.newCachedThreadPool();
+		try {
+			GameSession session = new GameSession(1, 10000, new DrawStats(), writers);
+			session.submitTicket(1, GameSession.MAX_PENDING_EVENTS + 10, null);
+			session.subscribe(stalled);
+			assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+				for (int i = 0; i < GameSession.MAX_PENDING_EVENTS + 10; i++) {
+					assertNotNull(session.runDrawing(1), "drawing " + (i + 1) + " should run");
+				}
+			}, "draws shouldn't wait on the stalled subscriber");
+			assertEquals(0, session.getSubscriberCount(), "the stalled subscriber should be dropped");
+		} finally {
+			release.countDown();
+			writers.shutdownNow();
+		}
+	}
+	
+	@Test //9
+	@DisplayName("Events reach a subscriber in draw order")
+	public void testEventOrder() throws Exception {
+		StringBuffer received = new StringBuffer();
+		CountDownLatch done = new CountDownLatch(1);
+		OutputStream stream = new OutputStream() {
+			@Override
+			public void write(int b) {
+				received.append((char) b);
+			}
+			
+			@Override
+			public void write(byte[] b, int off, int len) {
+				received.append(new String(b, off, len, StandardCharsets.UTF_8));
+				if (received.indexOf("\"moreDrawings\":false") >= 0) {
+					done.countDown();
+				}
+			}
+		};
+		ExecutorService writers = Executors.newCachedThreadPool();
+		try {
+			GameSession session = new GameSession(1, 10000, new DrawStats(), writers);
+			session.submitTicket(1, 50, null);
+			session.subscribe(stream);
+			List<CompletableFuture<Void>> draws = new ArrayList<>();
+			for (int t = 0; t < 5; t++) {
+				draws.add(CompletableFuture.runAsync(() -> {
+					for (int i = 0; i < 10; i++) {
+						session.runDrawing(1);
+					}
+				}));
+			}
+			CompletableFuture.allOf(draws.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+			assertTrue(done.await(10, TimeUnit.SECONDS), "the last draw should be pushed");
+			
+			Matcher m = Pattern.compile("\"drawId\":(\\d+)").matcher(received);
+			long last = 0;
+			int events = 0;
+			while (m.find()) {
+				long drawId = Long.parseLong(m.group(1));
+				assertEquals(last + 1, drawId, "events should arrive in draw order");
+				last = drawId;
+				events++;
+			}
+			assertEquals(50, events, "every drawing should be pushed once");
+		} finally {
+			writers.shutdownNow();
+		}
+	}
+	
+	@Test //10
+	@DisplayName("Stopping the server removes its session gauge")
+	public void testSessionGaugeUnregistered() throws Exception {
+		assertTrue(KenoMetrics.shared().getPrometheusText().contains("keno_server_sessions"), "gauge should be registered");
+		server.stop();
+		assertFalse(KenoMetrics.shared().getPrometheusText().contains("keno_server_sessions"), "gauge should be gone");
+		server = new KenoServer(0);
+	}
+}
@@ -0,0 +1,87 @@
+package keno.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import keno.MatchKernel;
+
+//settles as many tickets per step as the CPU has long lanes (4 with AVX2, 8 with AVX-512)
+//the JDK 17 Vector API has no lane popcount, so the bits are counted with the usual SWAR shifts and masks
+public final class VectorMatchKernel extends MatchKernel {
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+	//int columns are loaded at half the width so both species have the same # of lanes
+	private static final VectorSpecies<Integer> INTS =
+			VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+	private final int[] prizes = prizeTable();
+
+	public VectorMatchKernel() {
+		if (INTS.length() != LONGS.length()) {
+			throw new IllegalStateException("no int species with " + LONGS.length() + " lanes");
+		}
+	}
+
+	@Override
+	public long settle(long drawLow, long drawHigh, long[] pickLow, long[] pickHigh, int[] spots,
+			int[] bet, int[] drawingsRemaining, int[] matches, long[] winnings, int from, int to) {
+		LongVector dLow = LongVector.broadcast(LONGS, drawLow);
+		LongVector dHigh = LongVector.broadcast(LONGS, drawHigh);
+		LongVector total = LongVector.zero(LONGS);
+		int[] slots = new int[INTS.length()];
+
+		int i = from;
+		int upper = from + LONGS.loopBound(to - from);
+		for (; i < upper; i += LONGS.length()) {
+			LongVector hitBytes = byteCounts(LongVector.fromArray(LONGS, pickLow, i).and(dLow))
+					.add(byteCounts(LongVector.fromArray(LONGS, pickHigh, i).and(dHigh)));
+			IntVector hits = (IntVector) sumBytes(hitBytes).convertShape(VectorOperators.L2I, INTS, 0);
+
+			IntVector left = IntVector.fromArray(INTS, drawingsRemaining, i);
+			VectorMask<Integer> done = left.compare(VectorOperators.EQ, 0);
+
+			// gather the prizes straight out of the flat paytable
+			IntVector.fromArray(INTS, spots, i).mul(STRIDE).add(hits).intoArray(slots, 0);
+			IntVector prize = IntVector.fromArray(INTS, prizes, 0, slots, 0);
+			IntVector wager = IntVector.fromArray(INTS, bet, i).blend(0, done);
+			LongVector won = ((LongVector) wager.convertShape(VectorOperators.I2L, LONGS, 0))
+					.mul((LongVector) prize.convertShape(VectorOperators.I2L, LONGS, 0));
+
+			hits.blend(0, done).intoArray(matches, i);
+			won.intoArray(winnings, i);
+			left.lanewise(VectorOperators.SUB, 1, done.not()).intoArray(drawingsRemaining, i);
+			total = total.add(won);
+		}
+
+		long paid = total.reduceLanes(VectorOperators.ADD);
+		if (i < to) {
+			paid += MatchKernel.scalar().settle(drawLow, drawHigh, pickLow, pickHigh, spots, bet,
+					drawingsRemaining, matches, winnings, i, to);
+		}
+		return paid;
+	}
+
+	//bit count of every byte of every lane (each byte ends up 0-8)
+	private static LongVector byteCounts(LongVector x) {
+		x = x.sub(x.lanewise(VectorOperators.LSHR, 1).and(0x5555555555555555L));
+		x = x.and(0x3333333333333333L).add(x.lanewise(VectorOperators.LSHR, 2).and(0x3333333333333333L));
+		return x.add(x.lanewise(VectorOperators.LSHR, 4)).and(0x0F0F0F0F0F0F0F0FL);
+	}
+
+	//adds the 8 bytes of every lane together, shifts instead of a multiply since AVX2 has no 64 bit mullo
+	private static LongVector sumBytes(LongVector x) {
+		x = x.add(x.lanewise(VectorOperators.LSHR, 8));
+		x = x.add(x.lanewise(VectorOperators.LSHR, 16));
+		x = x.add(x.lanewise(VectorOperators.LSHR, 32));
+		return x.and(0xFFL);
+	}
+
+	@Override
+	public String getName() {
+		return "vector" + LONGS.length();
+	}
+}
@@ -0,0 +1,64 @@
+package keno.vector;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import keno.DrawSampler;
+import keno.MatchKernel;
+
+
+class VectorMatchKernelTest {
+	
+	@Test //1
+	@DisplayName("Vector kernel is picked up when the module is loaded")
+	public void testBestKernel() {
+		assertTrue(MatchKernel.best() instanceof VectorMatchKernel, "best() should find the vector kernel");
+	}
+	
+	@Test //2
+	@DisplayName("Vector kernel settles exactly like the scalar one")
+	public void testMatchesScalar() {
+		int size = 10007; //not a multiple of any lane count, so the scalar tail runs too
+		int[] spotGames = {1, 4, 8, 10};
+		SplittableRandom rng = new SplittableRandom(11);
+		DrawSampler sampler = new DrawSampler(rng);
+		
+		long[] pickLow = new long[size];
+		long[] pickHigh = new long[size];
+		int[] spots = new int[size];
+		int[] bet = new int[size];
+		int[] drawings = new int[size];
+		for (int i = 0; i < size; i++) {
+			spots[i] = spotGames[rng.nextInt(spotGames.length)];
+			sampler.sample(spots[i]);
+			pickLow[i] = sampler.getLow();
+			pickHigh[i] = sampler.getHigh();
+			bet[i] = 1 + rng.nextInt(100);
+			drawings[i] = rng.nextInt(3); //some tickets are already finished
+		}
+		int[] vectorDrawings = drawings.clone();
+		
+		int[] scalarMatches = new int[size];
+		long[] scalarWinnings = new long[size];
+		int[] vectorMatches = new int[size];
+		long[] vectorWinnings = new long[size];
+		
+		MatchKernel vector = new VectorMatchKernel();
+		for (int round = 0; round < 3; round++) {
+			sampler.sample(20);
+			long scalarPaid = MatchKernel.scalar().settle(sampler.getLow(), sampler.getHigh(), pickLow, pickHigh,
+					spots, bet, drawings, scalarMatches, scalarWinnings, 0, size);
+			long vectorPaid = vector.settle(sampler.getLow(), sampler.getHigh(), pickLow, pickHigh,
+					spots, bet, vectorDrawings, vectorMatches, vectorWinnings, 0, size);
+			
+			assertEquals(scalarPaid, vectorPaid, "total paid should agree in round " + round);
+			assertArrayEquals(scalarMatches, vectorMatches, "matches should agree in round " + round);
+			assertArrayEquals(scalarWinnings, vectorWinnings, "winnings should agree in round " + round);
+			assertArrayEquals(drawings, vectorDrawings, "drawings left should agree in round " + round);
+		}
+		assertTrue(Arrays.stream(drawings).allMatch(d -> d == 0), "every ticket should be finished");
+	}
+}